@@ -0,0 +1,274 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe dictionary backed by a ConcurrentHashMap: reads never lock, and writes lock only the
+ * bin they touch or succeed by compare-and-swap when the bin is empty.
+ * <p>
+ * Enumeration is weakly consistent. It neither copies the table nor throws ConcurrentModificationException;
+ * it sees every entry present for the whole enumeration and may or may not see concurrent changes.
+ */
+public class ConcurrentDictionary<TKey, TValue> implements IEnumerable<Map.Entry<TKey, TValue>> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final ConcurrentHashMap<TKey, TValue> map;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public ConcurrentDictionary() {
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an empty dictionary that holds capacity entries without resizing.
+     *
+     * @param capacity The number of entries the dictionary can hold before resizing.
+     * @throws IllegalArgumentException capacity is less than 0.
+     */
+    public ConcurrentDictionary(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity is less than 0.");
+
+        this.map = new ConcurrentHashMap<>(capacity);
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<Map.Entry<TKey, TValue>> iterator() {
+        return map.entrySet().iterator();
+    }
+
+    @Override
+    public Spliterator<Map.Entry<TKey, TValue>> spliterator() {
+        return map.entrySet().spliterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Adds a value for a key that is not present yet, or updates the existing value, as one atomic step.
+     *
+     * @param key                The key to add or whose value to update.
+     * @param addValue           The value to add when the key is absent.
+     * @param updateValueFactory A function that produces the new value from the key and its existing value.
+     * @return The value now associated with key.
+     * @throws IllegalArgumentException key or addValue or updateValueFactory is null.
+     */
+    public TValue addOrUpdate(final TKey key, final TValue addValue, final BiFunction<TKey, TValue, TValue> updateValueFactory) throws IllegalArgumentException {
+        if (addValue == null) throw new IllegalArgumentException("addValue is null.");
+
+        return addOrUpdate(key, k -> addValue, updateValueFactory);
+    }
+
+    /**
+     * Adds a value for a key that is not present yet, or updates the existing value, as one atomic step.
+     * Either factory runs at most once per call, while other writers to the same bin wait.
+     *
+     * @param key                The key to add or whose value to update.
+     * @param addValueFactory    A function that produces the value to add when the key is absent.
+     * @param updateValueFactory A function that produces the new value from the key and its existing value.
+     * @return The value now associated with key.
+     * @throws IllegalArgumentException key or addValueFactory or updateValueFactory is null, or a factory returns null.
+     */
+    public TValue addOrUpdate(final TKey key, final Function<TKey, TValue> addValueFactory, final BiFunction<TKey, TValue, TValue> updateValueFactory) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (addValueFactory == null) throw new IllegalArgumentException("addValueFactory is null.");
+        if (updateValueFactory == null) throw new IllegalArgumentException("updateValueFactory is null.");
+
+        return map.compute(key, (k, existing) -> {
+            TValue value = (existing == null) ? addValueFactory.apply(k) : updateValueFactory.apply(k, existing);
+            if (value == null) throw new IllegalArgumentException("value factory returned null.");
+            return value;
+        });
+    }
+
+    /**
+     * Removes all keys and values.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Determines whether the dictionary contains the specified key.
+     *
+     * @param key The key to locate.
+     * @return true if the dictionary contains an entry with the key; otherwise, false.
+     * @throws IllegalArgumentException key is null.
+     */
+    public boolean containsKey(final TKey key) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+
+        return map.containsKey(key);
+    }
+
+    /**
+     * Returns the value associated with the specified key, without locking.
+     *
+     * @param key The key of the value to get.
+     * @return The value associated with key, or null if the key is not present.
+     * @throws IllegalArgumentException key is null.
+     */
+    public TValue get(final TKey key) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+
+        return map.get(key);
+    }
+
+    /**
+     * Returns the keys as a weakly consistent sequence over the live table.
+     *
+     * @return An IEnumerable&lt;TKey&gt; view of the keys.
+     */
+    public IEnumerable<TKey> getKeys() {
+        return () -> map.keySet().iterator();
+    }
+
+    /**
+     * Returns the existing value for a key, or adds the given one if the key is absent.
+     *
+     * @param key   The key of the value to get or add.
+     * @param value The value to add when the key is absent.
+     * @return The value now associated with key.
+     * @throws IllegalArgumentException key or value is null.
+     */
+    public TValue getOrAdd(final TKey key, final TValue value) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (value == null) throw new IllegalArgumentException("value is null.");
+
+        TValue existing = map.putIfAbsent(key, value);
+        return (existing == null) ? value : existing;
+    }
+
+    /**
+     * Returns the existing value for a key, or adds one produced by valueFactory if the key is absent.
+     * The lookup of a present key does not lock, and valueFactory runs at most once per absent key.
+     *
+     * @param key          The key of the value to get or add.
+     * @param valueFactory A function that produces the value to add when the key is absent.
+     * @return The value now associated with key.
+     * @throws IllegalArgumentException key or valueFactory is null, or valueFactory returns null.
+     */
+    public TValue getOrAdd(final TKey key, final Function<TKey, TValue> valueFactory) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (valueFactory == null) throw new IllegalArgumentException("valueFactory is null.");
+
+        TValue existing = map.get(key);
+        if (existing != null) return existing;
+
+        return map.computeIfAbsent(key, k -> {
+            TValue value = valueFactory.apply(k);
+            if (value == null) throw new IllegalArgumentException("valueFactory returned null.");
+            return value;
+        });
+    }
+
+    /**
+     * Returns the values as a weakly consistent sequence over the live table.
+     *
+     * @return An IEnumerable&lt;TValue&gt; view of the values.
+     */
+    public IEnumerable<TValue> getValues() {
+        return () -> map.values().iterator();
+    }
+
+    /**
+     * @return true if the dictionary contains no entries at the moment of the call; otherwise, false.
+     */
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Associates a value with a key, replacing any existing value.
+     *
+     * @param key   The key of the value to set.
+     * @param value The value to set.
+     * @return The previous value associated with key, or null if there was none.
+     * @throws IllegalArgumentException key or value is null.
+     */
+    public TValue put(final TKey key, final TValue value) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (value == null) throw new IllegalArgumentException("value is null.");
+
+        return map.put(key, value);
+    }
+
+    /**
+     * @return The number of entries at the moment of the call; concurrent writers may change it at any time.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Adds a value for a key if the key is not present yet.
+     *
+     * @param key   The key of the value to add.
+     * @param value The value to add.
+     * @return true if the value was added; false if the key was already present.
+     * @throws IllegalArgumentException key or value is null.
+     */
+    public boolean tryAdd(final TKey key, final TValue value) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (value == null) throw new IllegalArgumentException("value is null.");
+
+        return map.putIfAbsent(key, value) == null;
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param key The key of the value to remove.
+     * @return The removed value, or null if the key was not present.
+     * @throws IllegalArgumentException key is null.
+     */
+    public TValue tryRemove(final TKey key) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+
+        return map.remove(key);
+    }
+
+    /**
+     * Removes the entry for a key only if it is currently associated with the given value.
+     *
+     * @param key   The key of the entry to remove.
+     * @param value The value the key must be associated with.
+     * @return true if the entry was removed; otherwise, false.
+     * @throws IllegalArgumentException key or value is null.
+     */
+    public boolean tryRemove(final TKey key, final TValue value) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (value == null) throw new IllegalArgumentException("value is null.");
+
+        return map.remove(key, value);
+    }
+
+    /**
+     * Replaces the value for a key only if it is currently associated with comparisonValue.
+     *
+     * @param key             The key of the value to replace.
+     * @param newValue        The value to set.
+     * @param comparisonValue The value the key must be associated with.
+     * @return true if the value was replaced; otherwise, false.
+     * @throws IllegalArgumentException key or newValue or comparisonValue is null.
+     */
+    public boolean tryUpdate(final TKey key, final TValue newValue, final TValue comparisonValue) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("key is null.");
+        if (newValue == null) throw new IllegalArgumentException("newValue is null.");
+        if (comparisonValue == null) throw new IllegalArgumentException("comparisonValue is null.");
+
+        return map.replace(key, comparisonValue, newValue);
+    }
+}
@@ -1,71 +1,303 @@
 package com.github.jlinqer.collections;
 
-import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.ICollection;
 
 import java.util.*;
 
 /**
- * Created by Keisuke Kato
+ * An unsynchronized hash table with open addressing: keys, values and their spread hashes live in parallel
+ * arrays, probed linearly and compacted by backward shifting on removal, so there are no tombstones and no
+ * per-entry nodes. Like Hashtable, neither keys nor values may be null.
+ * <p>
+ * iterator(), getKeys() and getValues() walk the table directly rather than copying it.
  */
-public class Dictionary<TKey, TSource> extends java.util.Dictionary<TKey, TSource> implements IEnumerable<Map.Entry<TKey, TSource>> {
+public class Dictionary<TKey, TSource> extends java.util.Dictionary<TKey, TSource> implements ICollection<Map.Entry<TKey, TSource>> {
 // ------------------------------ FIELDS ------------------------------
 
-    private java.util.Dictionary<TKey, TSource> dictionary = new Hashtable<>();
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int size = 0;
+    private int modCount = 0;
 
 // --------------------------- CONSTRUCTORS ---------------------------
 
     public Dictionary() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty dictionary that holds capacity entries without growing.
+     *
+     * @param capacity The number of entries the dictionary can hold before resizing.
+     * @throws IllegalArgumentException capacity is less than 0.
+     */
+    public Dictionary(int capacity) {
+        allocate(HashTables.tableSizeFor(capacity));
     }
 
 // ------------------------ INTERFACE METHODS ------------------------
 
 
+// --------------------- Interface ICollection ---------------------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
 // --------------------- Interface Iterable ---------------------
 
     @Override
     public Iterator<Map.Entry<TKey, TSource>> iterator() {
-        Map<TKey, TSource> allItems = new HashMap<>();
-        for (Enumeration<TKey> e = dictionary.keys(); e.hasMoreElements(); ) {
-            TKey key = e.nextElement();
-            allItems.put(key, dictionary.get(key));
-        }
-        return allItems.entrySet().iterator();
+        return new EntryIterator();
+    }
+
+    @Override
+    public Spliterator<Map.Entry<TKey, TSource>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.NONNULL);
     }
 
 // -------------------------- OTHER METHODS --------------------------
 
+    /**
+     * Determines whether the dictionary contains the specified key.
+     *
+     * @param key The key to locate.
+     * @return true if the dictionary contains an entry with the key; otherwise, false.
+     * @throws NullPointerException key is null.
+     */
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
     @Override
     public Enumeration<TSource> elements() {
-        return dictionary.elements();
+        return new SlotEnumeration<>(values);
     }
 
     @Override
     public TSource get(Object key) {
-        return dictionary.get(key);
+        int index = indexOf(key);
+        return index < 0 ? null : (TSource) values[index];
+    }
+
+    /**
+     * Returns the keys of the dictionary as a sequence that reads the table directly.
+     *
+     * @return An ICollection&lt;TKey&gt; view of the keys.
+     */
+    public ICollection<TKey> getKeys() {
+        return new SlotCollection<>(0);
+    }
+
+    /**
+     * Returns the values of the dictionary as a sequence that reads the table directly.
+     *
+     * @return An ICollection&lt;TSource&gt; view of the values.
+     */
+    public ICollection<TSource> getValues() {
+        return new SlotCollection<>(1);
     }
 
     @Override
     public boolean isEmpty() {
-        return dictionary.isEmpty();
+        return size == 0;
     }
 
     @Override
     public Enumeration<TKey> keys() {
-        return dictionary.keys();
+        return new SlotEnumeration<>(keys);
     }
 
     @Override
     public TSource put(TKey key, TSource value) {
-        return dictionary.put(key, value);
+        if (value == null) throw new NullPointerException();
+
+        final int hash = HashTables.spread(key.hashCode());
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                TSource old = (TSource) values[index];
+                values[index] = value;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        modCount++;
+        if (HashTables.isFull(++size, keys.length)) resize(HashTables.nextTableSize(keys.length));
+        return null;
     }
 
     @Override
     public TSource remove(Object key) {
-        return dictionary.remove(key);
+        int index = indexOf(key);
+        if (index < 0) return null;
+
+        TSource old = (TSource) values[index];
+        removeAt(index);
+        return old;
     }
 
-    @Override
-    public int size() {
-        return dictionary.size();
+    private void allocate(int tableSize) {
+        keys = new Object[tableSize];
+        values = new Object[tableSize];
+        hashes = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private int indexOf(Object key) {
+        final int hash = HashTables.spread(key.hashCode());
+        int index = hash & mask;
+        Object candidate;
+        while ((candidate = keys[index]) != null) {
+            if (hashes[index] == hash && candidate.equals(key)) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        // shift later members of the probe run back so that every lookup still finds its key without tombstones
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (keys[next] == null) break;
+
+            int home = hashes[next] & mask;
+            boolean reachable = (index <= next) ? (index < home && home <= next) : (index < home || home <= next);
+            if (!reachable) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                hashes[index] = hashes[next];
+                index = next;
+            }
+        }
+
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+    }
+
+    private void resize(int tableSize) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(tableSize);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+
+            int index = oldHashes[i] & mask;
+            while (keys[index] != null) index = (index + 1) & mask;
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+            hashes[index] = oldHashes[i];
+        }
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    /**
+     * Reads one array of the live table; like Hashtable's enumerations, it sees entries removed after it was created.
+     */
+    private final class SlotEnumeration<TElement> implements Enumeration<TElement> {
+        private final Object[] slots;
+        private int index = 0;
+
+        private SlotEnumeration(Object[] slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            while (index < slots.length && slots[index] == null) index++;
+            return index < slots.length;
+        }
+
+        @Override
+        public TElement nextElement() {
+            if (!hasMoreElements()) throw new NoSuchElementException();
+            return (TElement) slots[index++];
+        }
+    }
+
+    private final class SlotCollection<TElement> implements ICollection<TElement> {
+        private final int column;
+
+        private SlotCollection(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<TElement> iterator() {
+            final Object[] slots = (column == 0) ? keys : values;
+            final int expectedModCount = modCount;
+            return new Iterator<TElement>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while (index < slots.length && slots[index] == null) index++;
+                    return index < slots.length;
+                }
+
+                @Override
+                public TElement next() {
+                    if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return (TElement) slots[index++];
+                }
+            };
+        }
+    }
+
+    /**
+     * Fetches each entry ahead of the call to next(), so an entry that hasNext() reported is still returned
+     * after it is removed; next() fails fast once the dictionary has changed.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<TKey, TSource>> {
+        private final Object[] slotKeys = keys;
+        private final Object[] slotValues = values;
+        private final int expectedModCount = modCount;
+        private int index = 0;
+        private Map.Entry<TKey, TSource> nextEntry;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextEntry != null;
+        }
+
+        @Override
+        public Map.Entry<TKey, TSource> next() {
+            if (nextEntry == null) throw new NoSuchElementException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+            Map.Entry<TKey, TSource> entry = nextEntry;
+            advance();
+            return entry;
+        }
+
+        private void advance() {
+            while (index < slotKeys.length && slotKeys[index] == null) index++;
+            nextEntry = (index < slotKeys.length)
+                    ? new AbstractMap.SimpleImmutableEntry<>((TKey) slotKeys[index], (TSource) slotValues[index++])
+                    : null;
+        }
     }
 }
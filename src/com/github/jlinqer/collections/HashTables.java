@@ -0,0 +1,61 @@
+package com.github.jlinqer.collections;
+
+/**
+ * Sizing and hash spreading shared by the open-addressing tables in this package. Every table uses linear
+ * probing over a power-of-two array that is kept at most half full.
+ */
+final class HashTables {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final int MINIMUM_TABLE_SIZE = 8;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    private HashTables() {
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * @return Whether a table of tableSize slots must grow once it holds size entries.
+     */
+    static boolean isFull(int size, int tableSize) {
+        return size > ((tableSize - 1) >> 1);
+    }
+
+    /**
+     * @return The size of the table after growing one that has tableSize slots.
+     */
+    static int nextTableSize(int tableSize) {
+        if (tableSize >= MAXIMUM_TABLE_SIZE) throw new IllegalStateException("The table cannot grow any further.");
+
+        return tableSize << 1;
+    }
+
+    /**
+     * Fibonacci hashing: mixes the high bits of the hash into the low bits that pick the slot.
+     */
+    static int spread(int hashCode) {
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static int spread(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * @return The smallest table size that holds capacity entries without growing.
+     * @throws IllegalArgumentException capacity is less than 0 or too large.
+     */
+    static int tableSizeFor(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity is less than 0.");
+
+        long wanted = Math.max(MINIMUM_TABLE_SIZE, 2L * capacity + 1);
+        if (wanted > MAXIMUM_TABLE_SIZE) throw new IllegalArgumentException("capacity is too large.");
+
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
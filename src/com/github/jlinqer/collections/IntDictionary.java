@@ -0,0 +1,251 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.ICollection;
+import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.IntEnumerable;
+
+import java.util.*;
+
+/**
+ * A dictionary from int keys to values, in an open-addressing table of an int[] of keys beside an Object[] of
+ * values. Values may not be null, so a null value slot marks an empty one and every int is a valid key.
+ * <p>
+ * Enumerating the dictionary itself boxes each entry; getKeys() enumerates the keys without boxing.
+ */
+public class IntDictionary<TValue> implements ICollection<Map.Entry<Integer, TValue>> {
+// ------------------------------ FIELDS ------------------------------
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public IntDictionary() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty dictionary that holds capacity entries without growing.
+     *
+     * @param capacity The number of entries the dictionary can hold before resizing.
+     * @throws IllegalArgumentException capacity is less than 0.
+     */
+    public IntDictionary(int capacity) {
+        allocate(HashTables.tableSizeFor(capacity));
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface ICollection ---------------------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<Map.Entry<Integer, TValue>> iterator() {
+        final int[] tableKeys = keys;
+        final Object[] tableValues = values;
+        return new Iterator<Map.Entry<Integer, TValue>>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (index < tableValues.length && tableValues[index] == null) index++;
+                return index < tableValues.length;
+            }
+
+            @Override
+            public Map.Entry<Integer, TValue> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return new AbstractMap.SimpleImmutableEntry<>(tableKeys[index], (TValue) tableValues[index++]);
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Removes all entries, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Determines whether the dictionary contains the specified key.
+     *
+     * @param key The key to locate.
+     * @return true if the dictionary contains an entry with the key; otherwise, false.
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value associated with the specified key.
+     *
+     * @param key The key of the value to get.
+     * @return The value associated with key, or null if the key is not present.
+     */
+    public TValue get(int key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (TValue) values[index];
+    }
+
+    /**
+     * Returns the keys as a sequence that reads the table directly, without boxing.
+     *
+     * @return An IntEnumerable of the keys.
+     */
+    public IntEnumerable getKeys() {
+        return () -> {
+            final int[] tableKeys = keys;
+            final Object[] tableValues = values;
+            return new PrimitiveIterator.OfInt() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while (index < tableValues.length && tableValues[index] == null) index++;
+                    return index < tableValues.length;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return tableKeys[index++];
+                }
+            };
+        };
+    }
+
+    /**
+     * Returns the values as a sequence that reads the table directly.
+     *
+     * @return An IEnumerable&lt;TValue&gt; of the values.
+     */
+    public IEnumerable<TValue> getValues() {
+        return () -> {
+            final Object[] tableValues = values;
+            return new Iterator<TValue>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while (index < tableValues.length && tableValues[index] == null) index++;
+                    return index < tableValues.length;
+                }
+
+                @Override
+                public TValue next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return (TValue) tableValues[index++];
+                }
+            };
+        };
+    }
+
+    /**
+     * @return true if the dictionary contains no entries; otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Associates a value with a key, replacing any existing value.
+     *
+     * @param key   The key of the value to set.
+     * @param value The value to set.
+     * @return The previous value associated with key, or null if there was none.
+     * @throws IllegalArgumentException value is null.
+     */
+    public TValue put(int key, TValue value) throws IllegalArgumentException {
+        if (value == null) throw new IllegalArgumentException("value is null.");
+
+        int index = HashTables.spread(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                TValue old = (TValue) values[index];
+                values[index] = value;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (HashTables.isFull(++size, values.length)) resize(HashTables.nextTableSize(values.length));
+        return null;
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param key The key of the value to remove.
+     * @return The removed value, or null if the key was not present.
+     */
+    public TValue remove(int key) {
+        int index = indexOf(key);
+        if (index < 0) return null;
+
+        TValue old = (TValue) values[index];
+
+        // shift later members of the probe run back so that every lookup still finds its key without tombstones
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (values[next] == null) break;
+
+            int home = HashTables.spread(keys[next]) & mask;
+            boolean reachable = (index <= next) ? (index < home && home <= next) : (index < home || home <= next);
+            if (!reachable) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+
+        values[index] = null;
+        size--;
+        return old;
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private int indexOf(int key) {
+        int index = HashTables.spread(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int tableSize) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(tableSize);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            int index = HashTables.spread(oldKeys[i]) & mask;
+            while (values[index] != null) index = (index + 1) & mask;
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
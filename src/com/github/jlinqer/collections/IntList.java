@@ -0,0 +1,236 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IntEnumerable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A growable list of int values stored in an int[], so no element is ever boxed.
+ * Use boxed() to query it as an IEnumerable&lt;Integer&gt;.
+ */
+public class IntList implements IntEnumerable {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] items;
+    private int size = 0;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public IntList() {
+        this.items = EMPTY;
+    }
+
+    /**
+     * Creates an empty list that holds capacity values without growing.
+     *
+     * @param capacity The number of values the list can hold before resizing.
+     * @throws IllegalArgumentException capacity is less than 0.
+     */
+    public IntList(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity is less than 0.");
+
+        this.items = new int[capacity];
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a list that contains a copy of the given values.
+     *
+     * @param values The initial values of the list.
+     * @return An IntList that contains values.
+     * @throws IllegalArgumentException values is null.
+     */
+    public static IntList of(int... values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException("values is null.");
+
+        IntList list = new IntList();
+        list.items = values.clone();
+        list.size = values.length;
+        return list;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntList)) return false;
+
+        IntList other = (IntList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (items[i] != other.items[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) hash = 31 * hash + Integer.hashCode(items[i]);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface IntEnumerable ---------------------
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) throw new NoSuchElementException();
+                return items[index++];
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param value The value to add.
+     */
+    public void add(int value) {
+        if (size == items.length) items = Arrays.copyOf(items, Math.max(4, size * 2));
+        items[size++] = value;
+    }
+
+    /**
+     * Adds the values of a sequence to the end of the list.
+     *
+     * @param values The values to add.
+     * @throws IllegalArgumentException values is null.
+     */
+    public void addAll(IntEnumerable values) {
+        if (values == null) throw new IllegalArgumentException("values is null.");
+
+        final PrimitiveIterator.OfInt iterator = values.iterator();
+        while (iterator.hasNext()) add(iterator.nextInt());
+    }
+
+    /**
+     * Removes all values from the list, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Determines whether the list contains a value.
+     *
+     * @param value The value to locate.
+     * @return true if the list contains value; otherwise, false.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index The zero-based index of the value to get.
+     * @return The value at index.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value.
+     *
+     * @param value The value to locate.
+     * @return The zero-based index of the first occurrence of value, or -1 if it is not found.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return true if the list contains no values; otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes the value at the specified index, shifting later values down.
+     *
+     * @param index The zero-based index of the value to remove.
+     * @return The removed value.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+
+        int value = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     *
+     * @param index The zero-based index of the value to replace.
+     * @param value The new value.
+     * @return The previous value at index.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+
+        int old = items[index];
+        items[index] = value;
+        return old;
+    }
+
+    /**
+     * @return The number of values in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.jlinqer.collections;
 
+import com.github.jlinqer.linq.ICollection;
 import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.IList;
 
 import java.util.*;
 
@@ -8,22 +10,32 @@ import java.util.*;
  * Created by Reuben Kuhnert
  * Modified by Keisuke Kato
  */
-public class List<TSource> implements IEnumerable<TSource>, java.util.List<TSource> {
+public class List<TSource> implements IList<TSource>, java.util.List<TSource> {
 // ------------------------------ FIELDS ------------------------------
 
-    private java.util.List<TSource> list = new ArrayList<>();
+    private java.util.List<TSource> list;
 
 // --------------------------- CONSTRUCTORS ---------------------------
 
     public List() {
+        this.list = new ArrayList<>();
     }
 
     @SafeVarargs
     public List(TSource... items) {
+        this.list = new ArrayList<>(items.length);
         Collections.addAll(this, items);
     }
 
     public List(IEnumerable<TSource> items) {
+        if (items instanceof Collection) {
+            this.list = new ArrayList<>((Collection<TSource>) items);
+            return;
+        }
+
+        this.list = (items instanceof ICollection)
+                ? new ArrayList<>(((ICollection<TSource>) items).size())
+                : new ArrayList<>();
         for (TSource item : items) this.add(item);
     }
 
@@ -108,6 +120,13 @@ public class List<TSource> implements IEnumerable<TSource>, java.util.List<TSour
         list.clear();
     }
 
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public boolean isRandomAccess() {
+        return list instanceof RandomAccess;
+    }
+
 // --------------------- Interface Iterable ---------------------
 
     @Override
@@ -115,6 +134,11 @@ public class List<TSource> implements IEnumerable<TSource>, java.util.List<TSour
         return list.iterator();
     }
 
+    @Override
+    public Spliterator<TSource> spliterator() {
+        return list.spliterator();
+    }
+
 // --------------------- Interface List ---------------------
 
     @Override
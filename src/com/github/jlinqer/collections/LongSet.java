@@ -0,0 +1,207 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.LongEnumerable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A set of long values in an open-addressing long[] table, so no element is ever boxed. Zero marks an empty
+ * slot, so whether the set contains zero is tracked on its own. Use boxed() to query it as an
+ * IEnumerable&lt;Long&gt;.
+ */
+public class LongSet implements LongEnumerable {
+// ------------------------------ FIELDS ------------------------------
+
+    private long[] slots;
+    private int mask;
+    private boolean containsZero = false;
+    private int size = 0;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public LongSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set that holds capacity values without growing.
+     *
+     * @param capacity The number of values the set can hold before resizing.
+     * @throws IllegalArgumentException capacity is less than 0.
+     */
+    public LongSet(int capacity) {
+        allocate(HashTables.tableSizeFor(capacity));
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface LongEnumerable ---------------------
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public LongSet distinct() {
+        return this;
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private final long[] table = slots;
+            private boolean zeroPending = containsZero;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (zeroPending) return true;
+
+                while (index < table.length && table[index] == 0) index++;
+                return index < table.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (zeroPending) {
+                    zeroPending = false;
+                    return 0;
+                }
+                return table[index++];
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value to add.
+     * @return true if value was added; false if it was already present.
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = HashTables.spread(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        if (HashTables.isFull(++size, slots.length)) resize(HashTables.nextTableSize(slots.length));
+        return true;
+    }
+
+    /**
+     * Removes all values from the set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(slots, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Determines whether the set contains a value.
+     *
+     * @param value The value to locate.
+     * @return true if the set contains value; otherwise, false.
+     */
+    public boolean contains(long value) {
+        return (value == 0) ? containsZero : indexOf(value) >= 0;
+    }
+
+    /**
+     * @return true if the set contains no values; otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value The value to remove.
+     * @return true if value was removed; false if it was not present.
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) return false;
+
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (index < 0) return false;
+
+        // shift later members of the probe run back so that every lookup still finds its value without tombstones
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (slots[next] == 0) break;
+
+            int home = HashTables.spread(slots[next]) & mask;
+            boolean reachable = (index <= next) ? (index < home && home <= next) : (index < home || home <= next);
+            if (!reachable) {
+                slots[index] = slots[next];
+                index = next;
+            }
+        }
+
+        slots[index] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return The number of values in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int tableSize) {
+        slots = new long[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private int indexOf(long value) {
+        int index = HashTables.spread(value) & mask;
+        long candidate;
+        while ((candidate = slots[index]) != 0) {
+            if (candidate == value) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int tableSize) {
+        long[] oldSlots = slots;
+        allocate(tableSize);
+
+        for (long value : oldSlots) {
+            if (value == 0) continue;
+
+            int index = HashTables.spread(value) & mask;
+            while (slots[index] != 0) index = (index + 1) & mask;
+            slots[index] = value;
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.DoubleEnumerable;
+import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.IList;
+import com.github.jlinqer.linq.IntEnumerable;
+import com.github.jlinqer.linq.LongEnumerable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A list of fixed-layout records stored outside the Java heap, in direct ByteBuffers of about a megabyte
+ * each, so the garbage collector never sees one object per record.
+ * <p>
+ * Records are read and written through cursors. The list itself hands out a new cursor per element, which
+ * makes it safe for every IEnumerable operator; cursors() reuses a single cursor for streaming queries such
+ * as where, count and sum that look at each record once; and the column accessors enumerate one field as
+ * an unboxed IntEnumerable, LongEnumerable or DoubleEnumerable.
+ */
+public class OffHeapList implements IList<OffHeapList.Cursor> {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final RecordLayout layout;
+    private final int recordSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final ArrayList<ByteBuffer> chunks = new ArrayList<>();
+    private int size = 0;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    /**
+     * Creates an empty list of records with the given layout.
+     *
+     * @param layout The layout of every record.
+     * @throws IllegalArgumentException layout is null.
+     */
+    public OffHeapList(final RecordLayout layout) throws IllegalArgumentException {
+        this(layout, 0);
+    }
+
+    /**
+     * Creates an empty list of records with the given layout, with room for capacity records allocated up front.
+     *
+     * @param layout   The layout of every record.
+     * @param capacity The number of records to allocate memory for.
+     * @throws IllegalArgumentException layout is null or capacity is less than 0.
+     */
+    public OffHeapList(final RecordLayout layout, int capacity) throws IllegalArgumentException {
+        if (layout == null) throw new IllegalArgumentException("layout is null.");
+        if (capacity < 0) throw new IllegalArgumentException("capacity is less than 0.");
+
+        this.layout = layout;
+        this.recordSize = layout.getRecordSize();
+
+        // a power-of-two number of records per chunk turns an index into a chunk and a slot with a shift and a mask
+        int recordsPerChunk = Integer.highestOneBit(Math.max(1, CHUNK_BYTES / recordSize));
+        this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        this.chunkMask = recordsPerChunk - 1;
+
+        while ((long) chunks.size() << chunkShift < capacity) allocateChunk();
+    }
+
+// --------------------- GETTER / SETTER METHODS ---------------------
+
+    /**
+     * @return The layout of the records.
+     */
+    public RecordLayout getLayout() {
+        return layout;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface ICollection ---------------------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public Cursor get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+
+        Cursor cursor = new Cursor();
+        cursor.moveTo(index);
+        return cursor;
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<Cursor> iterator() {
+        return new Iterator<Cursor>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Cursor next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(index++);
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Appends a record whose fields are all zero.
+     *
+     * @return A cursor on the new record, for setting its fields.
+     */
+    public Cursor add() {
+        if (size == Integer.MAX_VALUE) throw new IllegalStateException("The list cannot grow any further.");
+        if ((size >>> chunkShift) == chunks.size()) allocateChunk();
+
+        Cursor cursor = new Cursor();
+        cursor.moveTo(size++);
+        return cursor;
+    }
+
+    /**
+     * Removes all records and releases their memory to the garbage collector.
+     */
+    public void clear() {
+        chunks.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the records as a sequence that moves a single cursor from record to record. A cursor obtained
+     * from it is only valid until the next one is requested, so use it for operators that look at each record
+     * once, and call Cursor.copy() to keep a record.
+     *
+     * @return An IEnumerable&lt;Cursor&gt; that allocates nothing per record.
+     */
+    public IEnumerable<Cursor> cursors() {
+        return () -> new Iterator<Cursor>() {
+            private final Cursor cursor = new Cursor();
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Cursor next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                cursor.moveTo(index++);
+                return cursor;
+            }
+        };
+    }
+
+    /**
+     * Enumerates one double field of every record without boxing.
+     *
+     * @param field The position of a double field in the layout.
+     * @return A DoubleEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException field is not a double field.
+     */
+    public DoubleEnumerable doubleColumn(int field) throws IllegalArgumentException {
+        final int offset = layout.offsetOf(field, RecordLayout.FieldType.DOUBLE);
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final ColumnIterator column = new ColumnIterator(offset);
+
+            @Override
+            public boolean hasNext() {
+                return column.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                int position = column.next();
+                return column.chunk.getDouble(position);
+            }
+        };
+    }
+
+    /**
+     * Enumerates one double field of every record without boxing.
+     *
+     * @param name The name of a double field in the layout.
+     * @return A DoubleEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException name is not a double field.
+     */
+    public DoubleEnumerable doubleColumn(final String name) throws IllegalArgumentException {
+        return doubleColumn(layout.indexOf(name));
+    }
+
+    /**
+     * Enumerates one int field of every record without boxing.
+     *
+     * @param field The position of an int field in the layout.
+     * @return An IntEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException field is not an int field.
+     */
+    public IntEnumerable intColumn(int field) throws IllegalArgumentException {
+        final int offset = layout.offsetOf(field, RecordLayout.FieldType.INT);
+        return () -> new PrimitiveIterator.OfInt() {
+            private final ColumnIterator column = new ColumnIterator(offset);
+
+            @Override
+            public boolean hasNext() {
+                return column.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                int position = column.next();
+                return column.chunk.getInt(position);
+            }
+        };
+    }
+
+    /**
+     * Enumerates one int field of every record without boxing.
+     *
+     * @param name The name of an int field in the layout.
+     * @return An IntEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException name is not an int field.
+     */
+    public IntEnumerable intColumn(final String name) throws IllegalArgumentException {
+        return intColumn(layout.indexOf(name));
+    }
+
+    /**
+     * Enumerates one long field of every record without boxing.
+     *
+     * @param field The position of a long field in the layout.
+     * @return A LongEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException field is not a long field.
+     */
+    public LongEnumerable longColumn(int field) throws IllegalArgumentException {
+        final int offset = layout.offsetOf(field, RecordLayout.FieldType.LONG);
+        return () -> new PrimitiveIterator.OfLong() {
+            private final ColumnIterator column = new ColumnIterator(offset);
+
+            @Override
+            public boolean hasNext() {
+                return column.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                int position = column.next();
+                return column.chunk.getLong(position);
+            }
+        };
+    }
+
+    /**
+     * Enumerates one long field of every record without boxing.
+     *
+     * @param name The name of a long field in the layout.
+     * @return A LongEnumerable of the field values, in record order.
+     * @throws IllegalArgumentException name is not a long field.
+     */
+    public LongEnumerable longColumn(final String name) throws IllegalArgumentException {
+        return longColumn(layout.indexOf(name));
+    }
+
+    private void allocateChunk() {
+        chunks.add(ByteBuffer.allocateDirect(recordSize << chunkShift).order(ByteOrder.nativeOrder()));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    /**
+     * A view of one record. Field accessors take the field's position in the layout; the overloads taking a
+     * name look the position up on every call.
+     */
+    public final class Cursor {
+        private int index;
+        private ByteBuffer chunk;
+        private int base;
+
+        private Cursor() {
+        }
+
+        /**
+         * @return A cursor on the same record that later moves of this cursor do not affect.
+         */
+        public Cursor copy() {
+            Cursor copy = new Cursor();
+            copy.moveTo(index);
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Cursor)) return false;
+
+            Cursor other = (Cursor) o;
+            return list() == other.list() && index == other.index;
+        }
+
+        /**
+         * @param field The position of a double field.
+         * @return The value of the field in this record.
+         * @throws IllegalArgumentException field is not a double field.
+         */
+        public double getDouble(int field) {
+            return chunk.getDouble(base + layout.offsetOf(field, RecordLayout.FieldType.DOUBLE));
+        }
+
+        /**
+         * Same as getDouble(int), looking the field up by name.
+         */
+        public double getDouble(final String name) {
+            return getDouble(layout.indexOf(name));
+        }
+
+        /**
+         * @return The zero-based position of this record in the list.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @param field The position of an int field.
+         * @return The value of the field in this record.
+         * @throws IllegalArgumentException field is not an int field.
+         */
+        public int getInt(int field) {
+            return chunk.getInt(base + layout.offsetOf(field, RecordLayout.FieldType.INT));
+        }
+
+        /**
+         * Same as getInt(int), looking the field up by name.
+         */
+        public int getInt(final String name) {
+            return getInt(layout.indexOf(name));
+        }
+
+        /**
+         * @param field The position of a long field.
+         * @return The value of the field in this record.
+         * @throws IllegalArgumentException field is not a long field.
+         */
+        public long getLong(int field) {
+            return chunk.getLong(base + layout.offsetOf(field, RecordLayout.FieldType.LONG));
+        }
+
+        /**
+         * Same as getLong(int), looking the field up by name.
+         */
+        public long getLong(final String name) {
+            return getLong(layout.indexOf(name));
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        /**
+         * @param field The position of a double field.
+         * @param value The new value of the field.
+         * @return This cursor.
+         * @throws IllegalArgumentException field is not a double field.
+         */
+        public Cursor setDouble(int field, double value) {
+            chunk.putDouble(base + layout.offsetOf(field, RecordLayout.FieldType.DOUBLE), value);
+            return this;
+        }
+
+        /**
+         * Same as setDouble(int), looking the field up by name.
+         */
+        public Cursor setDouble(final String name, double value) {
+            return setDouble(layout.indexOf(name), value);
+        }
+
+        /**
+         * @param field The position of an int field.
+         * @param value The new value of the field.
+         * @return This cursor.
+         * @throws IllegalArgumentException field is not an int field.
+         */
+        public Cursor setInt(int field, int value) {
+            chunk.putInt(base + layout.offsetOf(field, RecordLayout.FieldType.INT), value);
+            return this;
+        }
+
+        /**
+         * Same as setInt(int), looking the field up by name.
+         */
+        public Cursor setInt(final String name, int value) {
+            return setInt(layout.indexOf(name), value);
+        }
+
+        /**
+         * @param field The position of a long field.
+         * @param value The new value of the field.
+         * @return This cursor.
+         * @throws IllegalArgumentException field is not a long field.
+         */
+        public Cursor setLong(int field, long value) {
+            chunk.putLong(base + layout.offsetOf(field, RecordLayout.FieldType.LONG), value);
+            return this;
+        }
+
+        /**
+         * Same as setLong(int), looking the field up by name.
+         */
+        public Cursor setLong(final String name, long value) {
+            return setLong(layout.indexOf(name), value);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("#").append(index).append("{");
+            for (int field = 0; field < layout.fieldCount(); field++) {
+                if (field > 0) builder.append(", ");
+                builder.append(layout.nameOf(field)).append("=");
+                switch (layout.typeOf(field)) {
+                    case INT:
+                        builder.append(getInt(field));
+                        break;
+                    case LONG:
+                        builder.append(getLong(field));
+                        break;
+                    default:
+                        builder.append(getDouble(field));
+                }
+            }
+            return builder.append("}").toString();
+        }
+
+        private OffHeapList list() {
+            return OffHeapList.this;
+        }
+
+        private void moveTo(int index) {
+            this.index = index;
+            this.chunk = chunks.get(index >>> chunkShift);
+            this.base = (index & chunkMask) * recordSize;
+        }
+    }
+
+    /**
+     * Walks the byte position of one field through the records, chunk by chunk.
+     */
+    private final class ColumnIterator {
+        private final int offset;
+        private final int count = size;
+        private int index = 0;
+        private ByteBuffer chunk;
+        private int position;
+
+        private ColumnIterator(int offset) {
+            this.offset = offset;
+        }
+
+        boolean hasNext() {
+            return index < count;
+        }
+
+        /**
+         * Moves to the next record and returns the position of the field in chunk.
+         */
+        int next() {
+            if (index >= count) throw new NoSuchElementException();
+
+            if ((index & chunkMask) == 0) {
+                chunk = chunks.get(index >>> chunkShift);
+                position = offset;
+            } else {
+                position += recordSize;
+            }
+            index++;
+            return position;
+        }
+    }
+}
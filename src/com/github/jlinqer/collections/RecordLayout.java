@@ -0,0 +1,213 @@
+package com.github.jlinqer.collections;
+
+import java.util.ArrayList;
+
+/**
+ * The fixed binary layout of the records in an OffHeapList: an ordered list of named int, long and double
+ * fields, packed back to back. Fields are addressed by their position in the layout, which indexOf(name)
+ * looks up once so that per-record access never touches the names.
+ */
+public final class RecordLayout {
+// ------------------------------ FIELDS ------------------------------
+
+    private final String[] names;
+    private final FieldType[] types;
+    private final int[] offsets;
+    private final int recordSize;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    private RecordLayout(String[] names, FieldType[] types) {
+        this.names = names;
+        this.types = types;
+        this.offsets = new int[types.length];
+
+        int offset = 0;
+        for (int i = 0; i < types.length; i++) {
+            offsets[i] = offset;
+            offset += types[i].size;
+        }
+        this.recordSize = offset;
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * @return A Builder for a new layout.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+// --------------------- GETTER / SETTER METHODS ---------------------
+
+    /**
+     * @return The number of bytes each record occupies.
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("RecordLayout{");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(names[i]).append(": ").append(types[i]).append(" @").append(offsets[i]);
+        }
+        return builder.append("}").toString();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * @return The number of fields in the layout.
+     */
+    public int fieldCount() {
+        return types.length;
+    }
+
+    /**
+     * Returns the position of the field with the given name.
+     *
+     * @param name The name of the field.
+     * @return The zero-based position of the field.
+     * @throws IllegalArgumentException name is null or not a field of this layout.
+     */
+    public int indexOf(final String name) throws IllegalArgumentException {
+        if (name == null) throw new IllegalArgumentException("name is null.");
+
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        throw new IllegalArgumentException("name is not a field of this layout.");
+    }
+
+    /**
+     * @param field The position of the field.
+     * @return The name of the field.
+     * @throws IndexOutOfBoundsException field is less than 0 or greater than or equal to fieldCount().
+     */
+    public String nameOf(int field) {
+        return names[checkField(field)];
+    }
+
+    /**
+     * @param field The position of the field.
+     * @return The byte offset of the field within a record.
+     * @throws IndexOutOfBoundsException field is less than 0 or greater than or equal to fieldCount().
+     */
+    public int offsetOf(int field) {
+        return offsets[checkField(field)];
+    }
+
+    /**
+     * @param field The position of the field.
+     * @return The type of the field.
+     * @throws IndexOutOfBoundsException field is less than 0 or greater than or equal to fieldCount().
+     */
+    public FieldType typeOf(int field) {
+        return types[checkField(field)];
+    }
+
+    int offsetOf(int field, FieldType expected) {
+        if (typeOf(field) != expected)
+            throw new IllegalArgumentException("field " + names[field] + " is " + types[field] + ", not " + expected + ".");
+
+        return offsets[field];
+    }
+
+    private int checkField(int field) {
+        if (field < 0 || field >= types.length)
+            throw new IndexOutOfBoundsException("field is less than 0 or greater than or equal to the number of fields.");
+
+        return field;
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    /**
+     * The primitive types a field can have, with their sizes in bytes.
+     */
+    public enum FieldType {
+        INT(Integer.BYTES), LONG(Long.BYTES), DOUBLE(Double.BYTES);
+
+        private final int size;
+
+        FieldType(int size) {
+            this.size = size;
+        }
+
+        /**
+         * @return The number of bytes a field of this type occupies.
+         */
+        public int getSize() {
+            return size;
+        }
+    }
+
+    /**
+     * Collects the fields of a layout in order.
+     */
+    public static final class Builder {
+        private final ArrayList<String> names = new ArrayList<>();
+        private final ArrayList<FieldType> types = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a double field.
+         *
+         * @param name The name of the field.
+         * @return This builder.
+         * @throws IllegalArgumentException name is null or already used.
+         */
+        public Builder addDouble(final String name) throws IllegalArgumentException {
+            return add(name, FieldType.DOUBLE);
+        }
+
+        /**
+         * Appends an int field.
+         *
+         * @param name The name of the field.
+         * @return This builder.
+         * @throws IllegalArgumentException name is null or already used.
+         */
+        public Builder addInt(final String name) throws IllegalArgumentException {
+            return add(name, FieldType.INT);
+        }
+
+        /**
+         * Appends a long field.
+         *
+         * @param name The name of the field.
+         * @return This builder.
+         * @throws IllegalArgumentException name is null or already used.
+         */
+        public Builder addLong(final String name) throws IllegalArgumentException {
+            return add(name, FieldType.LONG);
+        }
+
+        /**
+         * @return The layout of the fields added so far.
+         * @throws IllegalArgumentException No field was added.
+         */
+        public RecordLayout build() throws IllegalArgumentException {
+            if (names.isEmpty()) throw new IllegalArgumentException("layout has no fields.");
+
+            return new RecordLayout(names.toArray(new String[0]), types.toArray(new FieldType[0]));
+        }
+
+        private Builder add(String name, FieldType type) {
+            if (name == null) throw new IllegalArgumentException("name is null.");
+            if (names.contains(name)) throw new IllegalArgumentException("name is already used.");
+
+            names.add(name);
+            types.add(type);
+            return this;
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package com.github.jlinqer.collections;
 
+import com.github.jlinqer.linq.ICollection;
 import com.github.jlinqer.linq.IEnumerable;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Spliterator;
 
 /**
  * Created by Reuben Kuhnert
  * Modified by Keisuke Kato
  */
-public class Set<TSource> implements IEnumerable<TSource>, java.util.Set<TSource> {
+public class Set<TSource> implements ICollection<TSource>, java.util.Set<TSource> {
 // ------------------------------ FIELDS ------------------------------
 
     private java.util.Set<TSource> set = new LinkedHashSet<>();
@@ -115,4 +117,9 @@ public class Set<TSource> implements IEnumerable<TSource>, java.util.Set<TSource
     public Iterator<TSource> iterator() {
         return set.iterator();
     }
+
+    @Override
+    public Spliterator<TSource> spliterator() {
+        return set.spliterator();
+    }
 }
@@ -0,0 +1,653 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.DoubleEnumerable;
+import com.github.jlinqer.linq.ICollection;
+import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.IList;
+import com.github.jlinqer.linq.IntEnumerable;
+import com.github.jlinqer.linq.LongEnumerable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * A read-only table stored column by column: one int[], long[], double[] or Object[] per column, filled from
+ * any IEnumerable by one extractor per column. A query that reads two columns of a wide row type only walks
+ * those two arrays.
+ * <p>
+ * whereInt, whereLong, whereDouble and where test one column at a time and return a view that shares the
+ * column arrays and keeps only the positions of the matching rows; project keeps a subset of the columns the
+ * same way. The sums, the column accessors and groupBy read only the columns they name. The table is also an
+ * IList of rows, so any IEnumerable operator can still run over it one Row at a time.
+ */
+public class Table implements IList<Table.Row> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final String[] names;
+    private final ColumnType[] types;
+    private final Object[] columns;
+    private final int[] selection;
+    private final int size;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    private Table(String[] names, ColumnType[] types, Object[] columns, int[] selection, int size) {
+        this.names = names;
+        this.types = types;
+        this.columns = columns;
+        this.selection = selection;
+        this.size = size;
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Starts building a table from the elements of a sequence.
+     *
+     * @param source The rows of the table.
+     * @param <TRow> The type of the elements of source.
+     * @return A Builder to which the columns are added.
+     * @throws IllegalArgumentException source is null.
+     */
+    public static <TRow> Builder<TRow> from(final IEnumerable<TRow> source) throws IllegalArgumentException {
+        if (source == null) throw new IllegalArgumentException("source is null.");
+
+        return new Builder<>(source);
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface ICollection ---------------------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public Row get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+
+        return new Row(rowAt(index));
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Row next() {
+                if (index >= size) throw new NoSuchElementException();
+                return new Row(rowAt(index++));
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Enumerates an object column of the selected rows.
+     *
+     * @param name The name of the column.
+     * @param <T>  The type of the values of the column.
+     * @return An IEnumerable&lt;T&gt; of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not an object column.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IEnumerable<T> column(final String name) throws IllegalArgumentException {
+        final Object[] values = (Object[]) columns[indexOf(name, ColumnType.OBJECT)];
+        return () -> new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) throw new NoSuchElementException();
+                return (T) values[rowAt(index++)];
+            }
+        };
+    }
+
+    /**
+     * @return The number of columns in the table.
+     */
+    public int columnCount() {
+        return names.length;
+    }
+
+    /**
+     * Enumerates a double column of the selected rows without boxing.
+     *
+     * @param name The name of the column.
+     * @return A DoubleEnumerable of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not a double column.
+     */
+    public DoubleEnumerable doubleColumn(final String name) throws IllegalArgumentException {
+        final double[] values = (double[]) columns[indexOf(name, ColumnType.DOUBLE)];
+        return () -> new PrimitiveIterator.OfDouble() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size) throw new NoSuchElementException();
+                return values[rowAt(index++)];
+            }
+        };
+    }
+
+    /**
+     * Groups the selected rows by the values of one column. Each group is a view of this table, so aggregating
+     * a group still reads only the columns it names.
+     *
+     * @param name   The name of the key column; its values must not be null.
+     * @param <TKey> The type of the values of the key column.
+     * @return A Dictionary from each distinct key to the rows that have it, in their order in this table.
+     * @throws IllegalArgumentException name is null or not a column of this table.
+     * @throws NullPointerException     The key column contains null.
+     */
+    @SuppressWarnings("unchecked")
+    public <TKey> Dictionary<TKey, Table> groupBy(final String name) throws IllegalArgumentException {
+        final int column = indexOf(name);
+
+        final Dictionary<TKey, IntList> rows = new Dictionary<>();
+        for (int i = 0; i < size; i++) {
+            int row = rowAt(i);
+            TKey key = (TKey) valueAt(column, row);
+            IntList group = rows.get(key);
+            if (group == null) rows.put(key, group = new IntList());
+            group.add(row);
+        }
+
+        final Dictionary<TKey, Table> groups = new Dictionary<>(rows.size());
+        for (Map.Entry<TKey, IntList> entry : rows) {
+            int[] selected = entry.getValue().toArray();
+            groups.put(entry.getKey(), new Table(names, types, columns, selected, selected.length));
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the position of the column with the given name.
+     *
+     * @param name The name of the column.
+     * @return The zero-based position of the column.
+     * @throws IllegalArgumentException name is null or not a column of this table.
+     */
+    public int indexOf(final String name) throws IllegalArgumentException {
+        if (name == null) throw new IllegalArgumentException("name is null.");
+
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        throw new IllegalArgumentException("name is not a column of this table.");
+    }
+
+    /**
+     * Enumerates an int column of the selected rows without boxing.
+     *
+     * @param name The name of the column.
+     * @return An IntEnumerable of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not an int column.
+     */
+    public IntEnumerable intColumn(final String name) throws IllegalArgumentException {
+        final int[] values = (int[]) columns[indexOf(name, ColumnType.INT)];
+        return () -> new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) throw new NoSuchElementException();
+                return values[rowAt(index++)];
+            }
+        };
+    }
+
+    /**
+     * Enumerates a long column of the selected rows without boxing.
+     *
+     * @param name The name of the column.
+     * @return A LongEnumerable of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not a long column.
+     */
+    public LongEnumerable longColumn(final String name) throws IllegalArgumentException {
+        final long[] values = (long[]) columns[indexOf(name, ColumnType.LONG)];
+        return () -> new PrimitiveIterator.OfLong() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) throw new NoSuchElementException();
+                return values[rowAt(index++)];
+            }
+        };
+    }
+
+    /**
+     * @param column The position of the column.
+     * @return The name of the column.
+     * @throws IndexOutOfBoundsException column is less than 0 or greater than or equal to columnCount().
+     */
+    public String nameOf(int column) {
+        return names[checkColumn(column)];
+    }
+
+    /**
+     * Keeps only the named columns, in the given order, without copying them.
+     *
+     * @param names The names of the columns to keep.
+     * @return A view of this table with only those columns.
+     * @throws IllegalArgumentException names is null, or contains null or a name that is not a column of this table.
+     */
+    public Table project(final String... names) throws IllegalArgumentException {
+        if (names == null) throw new IllegalArgumentException("names is null.");
+
+        final ColumnType[] projectedTypes = new ColumnType[names.length];
+        final Object[] projectedColumns = new Object[names.length];
+        for (int i = 0; i < names.length; i++) {
+            int column = indexOf(names[i]);
+            projectedTypes[i] = types[column];
+            projectedColumns[i] = columns[column];
+        }
+        return new Table(names.clone(), projectedTypes, projectedColumns, selection, size);
+    }
+
+    /**
+     * Sums a double column of the selected rows.
+     *
+     * @param name The name of the column.
+     * @return The sum of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not a double column.
+     */
+    public double sumDouble(final String name) throws IllegalArgumentException {
+        final double[] values = (double[]) columns[indexOf(name, ColumnType.DOUBLE)];
+
+        double sum = 0;
+        for (int i = 0; i < size; i++) sum += values[rowAt(i)];
+        return sum;
+    }
+
+    /**
+     * Sums an int column of the selected rows.
+     *
+     * @param name The name of the column.
+     * @return The sum of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not an int column.
+     * @throws ArithmeticException      The sum is larger than Integer.MaxValue.
+     */
+    public int sumInt(final String name) throws IllegalArgumentException, ArithmeticException {
+        final int[] values = (int[]) columns[indexOf(name, ColumnType.INT)];
+
+        int sum = 0;
+        for (int i = 0; i < size; i++) sum = Math.addExact(sum, values[rowAt(i)]);
+        return sum;
+    }
+
+    /**
+     * Sums a long column of the selected rows.
+     *
+     * @param name The name of the column.
+     * @return The sum of the column.
+     * @throws IllegalArgumentException name is null, not a column of this table, or not a long column.
+     * @throws ArithmeticException      The sum is larger than Long.MaxValue.
+     */
+    public long sumLong(final String name) throws IllegalArgumentException, ArithmeticException {
+        final long[] values = (long[]) columns[indexOf(name, ColumnType.LONG)];
+
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum = Math.addExact(sum, values[rowAt(i)]);
+        return sum;
+    }
+
+    /**
+     * @param column The position of the column.
+     * @return The type of the column.
+     * @throws IndexOutOfBoundsException column is less than 0 or greater than or equal to columnCount().
+     */
+    public ColumnType typeOf(int column) {
+        return types[checkColumn(column)];
+    }
+
+    /**
+     * Keeps the selected rows whose value in an object column satisfies a predicate.
+     *
+     * @param name      The name of the column.
+     * @param predicate A function to test each value of the column.
+     * @param <T>       The type of the values of the column.
+     * @return A view of this table with only the matching rows.
+     * @throws IllegalArgumentException name or predicate is null.-or-name is not an object column of this table.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Table where(final String name, final Predicate<T> predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        final Object[] values = (Object[]) columns[indexOf(name, ColumnType.OBJECT)];
+        return filter(row -> predicate.test((T) values[row]));
+    }
+
+    /**
+     * Keeps the selected rows whose value in a double column satisfies a predicate.
+     *
+     * @param name      The name of the column.
+     * @param predicate A function to test each value of the column.
+     * @return A view of this table with only the matching rows.
+     * @throws IllegalArgumentException name or predicate is null.-or-name is not a double column of this table.
+     */
+    public Table whereDouble(final String name, final DoublePredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        final double[] values = (double[]) columns[indexOf(name, ColumnType.DOUBLE)];
+        return filter(row -> predicate.test(values[row]));
+    }
+
+    /**
+     * Keeps the selected rows whose value in an int column satisfies a predicate.
+     *
+     * @param name      The name of the column.
+     * @param predicate A function to test each value of the column.
+     * @return A view of this table with only the matching rows.
+     * @throws IllegalArgumentException name or predicate is null.-or-name is not an int column of this table.
+     */
+    public Table whereInt(final String name, final IntPredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        final int[] values = (int[]) columns[indexOf(name, ColumnType.INT)];
+        return filter(row -> predicate.test(values[row]));
+    }
+
+    /**
+     * Keeps the selected rows whose value in a long column satisfies a predicate.
+     *
+     * @param name      The name of the column.
+     * @param predicate A function to test each value of the column.
+     * @return A view of this table with only the matching rows.
+     * @throws IllegalArgumentException name or predicate is null.-or-name is not a long column of this table.
+     */
+    public Table whereLong(final String name, final LongPredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        final long[] values = (long[]) columns[indexOf(name, ColumnType.LONG)];
+        return filter(row -> predicate.test(values[row]));
+    }
+
+    private int checkColumn(int column) {
+        if (column < 0 || column >= names.length)
+            throw new IndexOutOfBoundsException("column is less than 0 or greater than or equal to the number of columns.");
+
+        return column;
+    }
+
+    private int indexOf(String name, ColumnType expected) {
+        int column = indexOf(name);
+        if (types[column] != expected)
+            throw new IllegalArgumentException("column " + name + " is " + types[column] + ", not " + expected + ".");
+
+        return column;
+    }
+
+    private int rowAt(int index) {
+        return (selection == null) ? index : selection[index];
+    }
+
+    private Table filter(IntPredicate matches) {
+        final int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int row = rowAt(i);
+            if (matches.test(row)) selected[count++] = row;
+        }
+        return new Table(names, types, columns, Arrays.copyOf(selected, count), count);
+    }
+
+    private Object valueAt(int column, int row) {
+        switch (types[column]) {
+            case INT:
+                return ((int[]) columns[column])[row];
+            case LONG:
+                return ((long[]) columns[column])[row];
+            case DOUBLE:
+                return ((double[]) columns[column])[row];
+            default:
+                return ((Object[]) columns[column])[row];
+        }
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    /**
+     * The storage types a column can have.
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE, OBJECT
+    }
+
+    /**
+     * Collects the columns of a table, then extracts them all in a single pass over the source.
+     *
+     * @param <TRow> The type of the elements of the source.
+     */
+    public static final class Builder<TRow> {
+        private final IEnumerable<TRow> source;
+        private final ArrayList<String> names = new ArrayList<>();
+        private final ArrayList<ColumnType> types = new ArrayList<>();
+        private final ArrayList<Object> extractors = new ArrayList<>();
+
+        private Builder(IEnumerable<TRow> source) {
+            this.source = source;
+        }
+
+        /**
+         * Adds an object column.
+         *
+         * @param name      The name of the column.
+         * @param extractor A function that reads the column from a row.
+         * @return This builder.
+         * @throws IllegalArgumentException name or extractor is null.-or-name is already used.
+         */
+        public Builder<TRow> column(final String name, final Function<TRow, ?> extractor) throws IllegalArgumentException {
+            return add(name, ColumnType.OBJECT, extractor);
+        }
+
+        /**
+         * Adds a double column.
+         *
+         * @param name      The name of the column.
+         * @param extractor A function that reads the column from a row.
+         * @return This builder.
+         * @throws IllegalArgumentException name or extractor is null.-or-name is already used.
+         */
+        public Builder<TRow> doubleColumn(final String name, final ToDoubleFunction<TRow> extractor) throws IllegalArgumentException {
+            return add(name, ColumnType.DOUBLE, extractor);
+        }
+
+        /**
+         * Adds an int column.
+         *
+         * @param name      The name of the column.
+         * @param extractor A function that reads the column from a row.
+         * @return This builder.
+         * @throws IllegalArgumentException name or extractor is null.-or-name is already used.
+         */
+        public Builder<TRow> intColumn(final String name, final ToIntFunction<TRow> extractor) throws IllegalArgumentException {
+            return add(name, ColumnType.INT, extractor);
+        }
+
+        /**
+         * Adds a long column.
+         *
+         * @param name      The name of the column.
+         * @param extractor A function that reads the column from a row.
+         * @return This builder.
+         * @throws IllegalArgumentException name or extractor is null.-or-name is already used.
+         */
+        public Builder<TRow> longColumn(final String name, final ToLongFunction<TRow> extractor) throws IllegalArgumentException {
+            return add(name, ColumnType.LONG, extractor);
+        }
+
+        /**
+         * Enumerates the source once and extracts every column.
+         *
+         * @return The table.
+         * @throws IllegalArgumentException No column was added.
+         */
+        @SuppressWarnings("unchecked")
+        public Table build() throws IllegalArgumentException {
+            if (names.isEmpty()) throw new IllegalArgumentException("table has no columns.");
+
+            final ColumnType[] columnTypes = types.toArray(new ColumnType[0]);
+            final Object[] functions = extractors.toArray();
+            final Object[] columns = new Object[columnTypes.length];
+            int capacity = (source instanceof ICollection) ? ((ICollection<TRow>) source).size() : 16;
+            allocate(columnTypes, columns, capacity);
+
+            int size = 0;
+            for (TRow item : source) {
+                if (size == capacity) allocate(columnTypes, columns, capacity = Math.max(16, capacity * 2));
+
+                for (int c = 0; c < columns.length; c++) {
+                    switch (columnTypes[c]) {
+                        case INT:
+                            ((int[]) columns[c])[size] = ((ToIntFunction<TRow>) functions[c]).applyAsInt(item);
+                            break;
+                        case LONG:
+                            ((long[]) columns[c])[size] = ((ToLongFunction<TRow>) functions[c]).applyAsLong(item);
+                            break;
+                        case DOUBLE:
+                            ((double[]) columns[c])[size] = ((ToDoubleFunction<TRow>) functions[c]).applyAsDouble(item);
+                            break;
+                        default:
+                            ((Object[]) columns[c])[size] = ((Function<TRow, ?>) functions[c]).apply(item);
+                    }
+                }
+                size++;
+            }
+
+            // trim so that views never see the unused tail
+            allocate(columnTypes, columns, size);
+            return new Table(names.toArray(new String[0]), columnTypes, columns, null, size);
+        }
+
+        private static void allocate(ColumnType[] types, Object[] columns, int length) {
+            for (int c = 0; c < columns.length; c++) {
+                switch (types[c]) {
+                    case INT:
+                        columns[c] = (columns[c] == null) ? new int[length] : Arrays.copyOf((int[]) columns[c], length);
+                        break;
+                    case LONG:
+                        columns[c] = (columns[c] == null) ? new long[length] : Arrays.copyOf((long[]) columns[c], length);
+                        break;
+                    case DOUBLE:
+                        columns[c] = (columns[c] == null) ? new double[length] : Arrays.copyOf((double[]) columns[c], length);
+                        break;
+                    default:
+                        columns[c] = (columns[c] == null) ? new Object[length] : Arrays.copyOf((Object[]) columns[c], length);
+                }
+            }
+        }
+
+        private Builder<TRow> add(String name, ColumnType type, Object extractor) {
+            if (name == null) throw new IllegalArgumentException("name is null.");
+            if (extractor == null) throw new IllegalArgumentException("extractor is null.");
+            if (names.contains(name)) throw new IllegalArgumentException("name is already used.");
+
+            names.add(name);
+            types.add(type);
+            extractors.add(extractor);
+            return this;
+        }
+    }
+
+    /**
+     * One row of the table, read from the column arrays on demand.
+     */
+    public final class Row {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        /**
+         * @param name The name of an object column.
+         * @param <T>  The type of the values of the column.
+         * @return The value of the column in this row.
+         * @throws IllegalArgumentException name is null, not a column of the table, or not an object column.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(final String name) throws IllegalArgumentException {
+            return (T) ((Object[]) columns[indexOf(name, ColumnType.OBJECT)])[row];
+        }
+
+        /**
+         * @param name The name of a double column.
+         * @return The value of the column in this row.
+         * @throws IllegalArgumentException name is null, not a column of the table, or not a double column.
+         */
+        public double getDouble(final String name) throws IllegalArgumentException {
+            return ((double[]) columns[indexOf(name, ColumnType.DOUBLE)])[row];
+        }
+
+        /**
+         * @param name The name of an int column.
+         * @return The value of the column in this row.
+         * @throws IllegalArgumentException name is null, not a column of the table, or not an int column.
+         */
+        public int getInt(final String name) throws IllegalArgumentException {
+            return ((int[]) columns[indexOf(name, ColumnType.INT)])[row];
+        }
+
+        /**
+         * @param name The name of a long column.
+         * @return The value of the column in this row.
+         * @throws IllegalArgumentException name is null, not a column of the table, or not a long column.
+         */
+        public long getLong(final String name) throws IllegalArgumentException {
+            return ((long[]) columns[indexOf(name, ColumnType.LONG)])[row];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("{");
+            for (int c = 0; c < names.length; c++) {
+                if (c > 0) builder.append(", ");
+                builder.append(names[c]).append('=').append(valueAt(c, row));
+            }
+            return builder.append("}").toString();
+        }
+    }
+}
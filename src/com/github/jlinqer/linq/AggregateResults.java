@@ -0,0 +1,57 @@
+package com.github.jlinqer.linq;
+
+/**
+ * The results of IEnumerable.aggregateAll, looked up by the aggregator that produced them.
+ */
+public final class AggregateResults {
+// ------------------------------ FIELDS ------------------------------
+
+    private final Aggregator<?, ?, ?>[] aggregators;
+    private final Object[] results;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    AggregateResults(Aggregator<?, ?, ?>[] aggregators, Object[] results) {
+        this.aggregators = aggregators;
+        this.results = results;
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Returns the result of the given aggregator.
+     *
+     * @param aggregator One of the aggregators passed to aggregateAll.
+     * @param <TResult>  The type of the resulting value.
+     * @return The result of aggregator.
+     * @throws IllegalArgumentException aggregator was not passed to aggregateAll.
+     */
+    @SuppressWarnings("unchecked")
+    public <TResult> TResult get(final Aggregator<?, ?, TResult> aggregator) throws IllegalArgumentException {
+        for (int i = 0; i < aggregators.length; i++) {
+            if (aggregators[i] == aggregator) return (TResult) results[i];
+        }
+        throw new IllegalArgumentException("aggregator was not passed to aggregateAll.");
+    }
+
+    /**
+     * Returns the result of the aggregator at the given position in the aggregateAll arguments.
+     *
+     * @param index The zero-based position of the aggregator.
+     * @return The result of that aggregator.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    public Object get(final int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= results.length)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of aggregators.");
+
+        return results[index];
+    }
+
+    /**
+     * @return The number of aggregators.
+     */
+    public int size() {
+        return results.length;
+    }
+}
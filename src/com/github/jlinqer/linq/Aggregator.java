@@ -0,0 +1,81 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An accumulation over a sequence, split into its seed, step and result so that several of them can share
+ * one enumeration through IEnumerable.aggregateAll.
+ *
+ * @param <TSource>     The type of the elements of the sequence.
+ * @param <TAccumulate> The type of the accumulator value.
+ * @param <TResult>     The type of the resulting value.
+ */
+public interface Aggregator<TSource, TAccumulate, TResult> {
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates an aggregator whose result is its final accumulator value.
+     *
+     * @param seed The function that creates the initial accumulator value.
+     * @param func An accumulator function to be invoked on each element.
+     * @return An Aggregator built from the given functions.
+     * @throws IllegalArgumentException seed or func is null.
+     */
+    static <TSource, TAccumulate> Aggregator<TSource, TAccumulate, TAccumulate> of(final Supplier<TAccumulate> seed, final BiFunction<TAccumulate, TSource, TAccumulate> func) throws IllegalArgumentException {
+        return of(seed, func, Function.identity());
+    }
+
+    /**
+     * Creates an aggregator from its seed, accumulator and result functions.
+     *
+     * @param seed           The function that creates the initial accumulator value.
+     * @param func           An accumulator function to be invoked on each element.
+     * @param resultSelector A function to transform the final accumulator value into the result value.
+     * @return An Aggregator built from the given functions.
+     * @throws IllegalArgumentException seed or func or resultSelector is null.
+     */
+    static <TSource, TAccumulate, TResult> Aggregator<TSource, TAccumulate, TResult> of(final Supplier<TAccumulate> seed, final BiFunction<TAccumulate, TSource, TAccumulate> func, final Function<TAccumulate, TResult> resultSelector) throws IllegalArgumentException {
+        if (seed == null) throw new IllegalArgumentException("seed is null.");
+        if (func == null) throw new IllegalArgumentException("func is null.");
+        if (resultSelector == null) throw new IllegalArgumentException("resultSelector is null.");
+
+        return new Aggregator<TSource, TAccumulate, TResult>() {
+            @Override
+            public TAccumulate seed() {
+                return seed.get();
+            }
+
+            @Override
+            public TAccumulate accumulate(TAccumulate accumulate, TSource element) {
+                return func.apply(accumulate, element);
+            }
+
+            @Override
+            public TResult result(TAccumulate accumulate) {
+                return resultSelector.apply(accumulate);
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * @param accumulate The current accumulator value.
+     * @param element    The next element of the sequence.
+     * @return The new accumulator value.
+     */
+    TAccumulate accumulate(TAccumulate accumulate, TSource element);
+
+    /**
+     * @param accumulate The final accumulator value.
+     * @return The result of the aggregation.
+     */
+    TResult result(TAccumulate accumulate);
+
+    /**
+     * @return A fresh initial accumulator value; called once per enumeration.
+     */
+    TAccumulate seed();
+}
@@ -0,0 +1,98 @@
+package com.github.jlinqer.linq;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * An immutable summary of a sequence of BigDecimal values, gathered in a single pass.
+ * The sum and the sum of squares are exact; only the mean and variance are rounded, to MathContext.DECIMAL128.
+ */
+public final class BigDecimalStatistics {
+// ------------------------------ FIELDS ------------------------------
+
+    private final long count;
+    private final BigDecimal sum;
+    private final BigDecimal sumOfSquares;
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    BigDecimalStatistics(long count, BigDecimal sum, BigDecimal sumOfSquares, BigDecimal min, BigDecimal max) {
+        this.count = count;
+        this.sum = sum;
+        this.sumOfSquares = sumOfSquares;
+        this.min = min;
+        this.max = max;
+    }
+
+// --------------------- GETTER / SETTER METHODS ---------------------
+
+    /**
+     * @return The number of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The largest value.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public BigDecimal getMax() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * @return The smallest value.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public BigDecimal getMin() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * @return The exact sum of the values, or 0 if there are none.
+     */
+    public BigDecimal getSum() {
+        return sum;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    @Override
+    public String toString() {
+        return count == 0
+                ? "BigDecimalStatistics{count=0}"
+                : "BigDecimalStatistics{count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + ", mean=" + getMean() + ", variance=" + getVariance() + "}";
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * @return The arithmetic mean of the values, rounded to MathContext.DECIMAL128.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public BigDecimal getMean() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+    }
+
+    /**
+     * @return The population variance of the values, rounded to MathContext.DECIMAL128.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public BigDecimal getVariance() throws UnsupportedOperationException {
+        checkNotEmpty();
+
+        // (n * sum(x^2) - sum(x)^2) / n^2, computed exactly up to the final division
+        BigDecimal n = BigDecimal.valueOf(count);
+        return sumOfSquares.multiply(n).subtract(sum.multiply(sum)).divide(n.multiply(n), MathContext.DECIMAL128);
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
+    }
+}
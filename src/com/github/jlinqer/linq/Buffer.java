@@ -0,0 +1,44 @@
+package com.github.jlinqer.linq;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The elements of a sequence copied in a single pass, for operators that need random access to them.
+ * The copy is a snapshot taken when the buffer is created, so the source may be modified while the
+ * results are enumerated, and a lazy projection is computed only once per element.
+ */
+class Buffer<TElement> {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final Object[] EMPTY = new Object[0];
+
+    final Object[] items;
+    final int count;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    Buffer(IEnumerable<TElement> source) {
+        Object[] items;
+        int count = 0;
+        if (source instanceof Collection) {
+            items = ((Collection<?>) source).toArray();
+            count = items.length;
+        } else {
+            items = (source instanceof ICollection) ? new Object[((ICollection<TElement>) source).size()] : EMPTY;
+            for (TElement item : source) {
+                if (count == items.length) items = Arrays.copyOf(items, Math.max(4, count * 2));
+                items[count++] = item;
+            }
+        }
+        this.items = items;
+        this.count = count;
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @SuppressWarnings("unchecked")
+    TElement get(int index) {
+        return (TElement) items[index];
+    }
+}
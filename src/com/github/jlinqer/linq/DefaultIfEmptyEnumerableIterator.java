@@ -0,0 +1,55 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the source sequence, or yields a single default value when the source turns out to be empty.
+ */
+class DefaultIfEmptyEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final TSource defaultValue;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public DefaultIfEmptyEnumerableIterator(IEnumerable<TSource> iterable, TSource defaultValue) {
+        this.iterable = iterable;
+        this.defaultValue = defaultValue;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        final Iterator<TSource> iterator = iterable.iterator();
+        if (iterator.hasNext()) return iterator;
+
+        return new Iterator<TSource>() {
+            private boolean returned = false;
+
+            @Override
+            public boolean hasNext() {
+                return !returned;
+            }
+
+            @Override
+            public TSource next() {
+                if (returned) throw new NoSuchElementException();
+                returned = true;
+                return defaultValue;
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("DefaultIfEmpty", "", QueryPlan.of(iterable));
+    }
+}
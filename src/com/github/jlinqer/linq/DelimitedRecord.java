@@ -0,0 +1,155 @@
+package com.github.jlinqer.linq;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * One line of a delimited text file, read straight from the memory-mapped file. Nothing is decoded until it is
+ * asked for: the field boundaries are found on the first field access, and each field is decoded only when it
+ * is read. getInt() and getLong() parse the bytes in place without creating a String.
+ * <p>
+ * Fields are split on every delimiter; quoting is not interpreted.
+ */
+public final class DelimitedRecord {
+// ------------------------------ FIELDS ------------------------------
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+    private final byte delimiter;
+    private final Charset charset;
+    private int[] delimiters;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    DelimitedRecord(ByteBuffer buffer, int start, int end, byte delimiter, Charset charset) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.delimiter = delimiter;
+        this.charset = charset;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    /**
+     * @return The whole line, without its line break.
+     */
+    @Override
+    public String toString() {
+        return MappedLines.decode(buffer, start, end, charset);
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Decodes the field at the specified index.
+     *
+     * @param index The zero-based index of the field.
+     * @return The text of the field.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    public String get(int index) {
+        return MappedLines.decode(buffer, fieldStart(index), fieldEnd(index), charset);
+    }
+
+    /**
+     * Parses the field at the specified index as a double.
+     *
+     * @param index The zero-based index of the field.
+     * @return The value of the field.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     * @throws NumberFormatException     The field is not a double.
+     */
+    public double getDouble(int index) {
+        return Double.parseDouble(get(index));
+    }
+
+    /**
+     * Parses the field at the specified index as a decimal int, without decoding it to a String.
+     *
+     * @param index The zero-based index of the field.
+     * @return The value of the field.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     * @throws NumberFormatException     The field is not an int.
+     */
+    public int getInt(int index) {
+        long value = getLong(index);
+        if (value < Integer.MIN_VALUE || Integer.MAX_VALUE < value) throw notANumber(index);
+
+        return (int) value;
+    }
+
+    /**
+     * Parses the field at the specified index as a decimal long, without decoding it to a String.
+     *
+     * @param index The zero-based index of the field.
+     * @return The value of the field.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     * @throws NumberFormatException     The field is not a long.
+     */
+    public long getLong(int index) {
+        int position = fieldStart(index);
+        final int fence = fieldEnd(index);
+
+        boolean negative = false;
+        if (position < fence && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+            negative = buffer.get(position++) == '-';
+        }
+        if (position == fence) throw notANumber(index);
+
+        // accumulate negatively so that Long.MIN_VALUE parses without overflowing
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; position < fence; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || 9 < digit || result < multiplyLimit) throw notANumber(index);
+
+            result *= 10;
+            if (result < limit + digit) throw notANumber(index);
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * @return The number of fields, which is one more than the number of delimiters in the line.
+     */
+    public int size() {
+        return delimiters().length + 1;
+    }
+
+    private int[] delimiters() {
+        if (delimiters == null) {
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (buffer.get(i) == delimiter) count++;
+            }
+
+            int[] positions = new int[count];
+            for (int i = start, j = 0; j < count; i++) {
+                if (buffer.get(i) == delimiter) positions[j++] = i;
+            }
+            delimiters = positions;
+        }
+        return delimiters;
+    }
+
+    private int fieldEnd(int index) {
+        int[] positions = delimiters();
+        return index == positions.length ? end : positions[index];
+    }
+
+    private int fieldStart(int index) {
+        int[] positions = delimiters();
+        if (index < 0 || index > positions.length)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of fields.");
+
+        return index == 0 ? start : positions[index - 1] + 1;
+    }
+
+    private NumberFormatException notANumber(int index) {
+        return new NumberFormatException("For input string: \"" + get(index) + "\"");
+    }
+}
@@ -0,0 +1,326 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.DoubleList;
+import com.github.jlinqer.collections.LongSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * A sequence of double values that stay unboxed from one operator to the next.
+ * Call boxed() to continue with the IEnumerable&lt;Double&gt; operators.
+ */
+@FunctionalInterface
+public interface DoubleEnumerable extends Iterable<Double> {
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a sequence over the given values. The array is read in place, not copied.
+     *
+     * @param values The elements of the sequence.
+     * @return A DoubleEnumerable that contains values.
+     * @throws IllegalArgumentException values is null.
+     */
+    static DoubleEnumerable of(final double... values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException("values is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= values.length) throw new NoSuchElementException();
+                return values[index++];
+            }
+        };
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    PrimitiveIterator.OfDouble iterator();
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Computes the average of the sequence.
+     *
+     * @return The average of the sequence of values.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default double average() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        double sum = 0;
+        long count = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+            count++;
+        }
+        return sum / count;
+    }
+
+    /**
+     * Returns the sequence as an IEnumerable&lt;Double&gt;, boxing each element as it is enumerated.
+     *
+     * @return An IEnumerable&lt;Double&gt; over the same elements.
+     */
+    default IEnumerable<Double> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     *
+     * @return The number of elements in the sequence.
+     * @throws ArithmeticException The number of elements is larger than Integer.MaxValue.
+     */
+    default int count() throws ArithmeticException {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextDouble();
+            count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    /**
+     * Returns distinct elements from the sequence, in order of first occurrence. Values are compared the way Double.equals compares them.
+     *
+     * @return A DoubleEnumerable that contains distinct elements from the sequence.
+     */
+    default DoubleEnumerable distinct() {
+        return () -> {
+            final LongSet seen = new LongSet();
+            return where(x -> seen.add(Double.doubleToLongBits(x))).iterator();
+        };
+    }
+
+    /**
+     * Returns the maximum value in the sequence.
+     *
+     * @return The maximum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default double max() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        double max = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            final double item = iterator.nextDouble();
+            if (Double.compare(item, max) > 0) max = item;
+        }
+        return max;
+    }
+
+    /**
+     * Returns the minimum value in the sequence.
+     *
+     * @return The minimum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default double min() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        double min = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            final double item = iterator.nextDouble();
+            if (Double.compare(item, min) < 0) min = item;
+        }
+        return min;
+    }
+
+    /**
+     * Sorts the elements of the sequence in ascending order.
+     *
+     * @return A DoubleEnumerable whose elements are sorted.
+     */
+    default DoubleEnumerable orderBy() {
+        return () -> {
+            final double[] values = toArray();
+            Arrays.sort(values);
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Sorts the elements of the sequence in descending order.
+     *
+     * @return A DoubleEnumerable whose elements are sorted in descending order.
+     */
+    default DoubleEnumerable orderByDescending() {
+        return () -> {
+            final double[] values = toArray();
+            Arrays.sort(values);
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                final double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Projects each element into a new double value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A DoubleEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default DoubleEnumerable select(final DoubleUnaryOperator selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final PrimitiveIterator.OfDouble iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return selector.applyAsDouble(iterator.nextDouble());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into an int value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return An IntEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default IntEnumerable selectInt(final DoubleToIntFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private final PrimitiveIterator.OfDouble iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return selector.applyAsInt(iterator.nextDouble());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into a long value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A LongEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default LongEnumerable selectLong(final DoubleToLongFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private final PrimitiveIterator.OfDouble iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return selector.applyAsLong(iterator.nextDouble());
+            }
+        };
+    }
+
+    /**
+     * Computes the sum of the sequence.
+     *
+     * @return The sum of the values in the sequence.
+     */
+    default double sum() {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        double sum = 0d;
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array from the sequence.
+     *
+     * @return An array that contains the elements of the sequence.
+     */
+    default double[] toArray() {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        double[] values = new double[16];
+        int count = 0;
+        while (iterator.hasNext()) {
+            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+            values[count++] = iterator.nextDouble();
+        }
+        return (count == values.length) ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Creates a DoubleList from the sequence.
+     *
+     * @return A DoubleList that contains the elements of the sequence.
+     */
+    default DoubleList toList() {
+        final DoubleList list = new DoubleList();
+        list.addAll(this);
+        return list;
+    }
+
+    /**
+     * Filters the sequence based on a predicate.
+     *
+     * @param predicate A function to test each element for a condition.
+     * @return A DoubleEnumerable that contains elements from the sequence that satisfy the condition.
+     * @throws IllegalArgumentException predicate is null.
+     */
+    default DoubleEnumerable where(final DoublePredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final PrimitiveIterator.OfDouble iterator = iterator();
+            private boolean hasItem = false;
+            private double item;
+
+            @Override
+            public boolean hasNext() {
+                while (!hasItem && iterator.hasNext()) {
+                    item = iterator.nextDouble();
+                    hasItem = predicate.test(item);
+                }
+                return hasItem;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) throw new NoSuchElementException();
+                hasItem = false;
+                return item;
+            }
+        };
+    }
+}
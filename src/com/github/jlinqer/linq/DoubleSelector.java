@@ -0,0 +1,22 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A selector that produces a primitive double key. Since it is both a Function&lt;TSource, Double&gt; and a
+ * ToDoubleFunction&lt;TSource&gt;, overloads taking it are the most specific match for a lambda, so
+ * existing calls such as sumDouble(x -&gt; ...) pick the unboxed implementation without a cast.
+ */
+@FunctionalInterface
+public interface DoubleSelector<TSource> extends Function<TSource, Double>, ToDoubleFunction<TSource> {
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Function ---------------------
+
+    @Override
+    default Double apply(TSource source) {
+        return applyAsDouble(source);
+    }
+}
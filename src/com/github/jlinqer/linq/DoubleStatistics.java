@@ -0,0 +1,103 @@
+package com.github.jlinqer.linq;
+
+/**
+ * An immutable summary of a sequence of double values, gathered in a single pass.
+ * The mean and variance are accumulated with Welford's method, which stays accurate when the values are
+ * large compared to their spread.
+ */
+public final class DoubleStatistics {
+// ------------------------------ FIELDS ------------------------------
+
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final double mean;
+    private final double sumOfSquaredDeviations;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    DoubleStatistics(long count, double sum, double min, double max, double mean, double sumOfSquaredDeviations) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.sumOfSquaredDeviations = sumOfSquaredDeviations;
+    }
+
+// --------------------- GETTER / SETTER METHODS ---------------------
+
+    /**
+     * @return The number of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The largest value.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public double getMax() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * @return The arithmetic mean of the values.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public double getMean() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return mean;
+    }
+
+    /**
+     * @return The smallest value.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public double getMin() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * @return The sum of the values, or 0 if there are none.
+     */
+    public double getSum() {
+        return sum;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    @Override
+    public String toString() {
+        return count == 0
+                ? "DoubleStatistics{count=0}"
+                : "DoubleStatistics{count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + ", mean=" + mean + ", variance=" + getVariance() + "}";
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * @return The population standard deviation of the values.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public double getStandardDeviation() throws UnsupportedOperationException {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return The population variance of the values.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    public double getVariance() throws UnsupportedOperationException {
+        checkNotEmpty();
+        return sumOfSquaredDeviations / count;
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
+    }
+}
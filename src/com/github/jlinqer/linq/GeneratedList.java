@@ -0,0 +1,71 @@
+package com.github.jlinqer.linq;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A list whose elements are computed from their index on demand, so it takes constant memory whatever its size.
+ * The first modification copies the elements into an ArrayList, and the list behaves as an ordinary one from then on.
+ */
+class GeneratedList<TSource> extends AbstractList<TSource> implements RandomAccess {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IntFunction<TSource> generator;
+    private final int size;
+    private ArrayList<TSource> materialized;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    GeneratedList(int size, IntFunction<TSource> generator) {
+        this.size = size;
+        this.generator = generator;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface List ---------------------
+
+    @Override
+    public TSource get(int index) {
+        if (materialized != null) return materialized.get(index);
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return generator.apply(index);
+    }
+
+    @Override
+    public int size() {
+        return (materialized != null) ? materialized.size() : size;
+    }
+
+    @Override
+    public TSource set(int index, TSource element) {
+        return materialize().set(index, element);
+    }
+
+    @Override
+    public void add(int index, TSource element) {
+        materialize().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public TSource remove(int index) {
+        TSource removed = materialize().remove(index);
+        modCount++;
+        return removed;
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    private ArrayList<TSource> materialize() {
+        if (materialized == null) {
+            ArrayList<TSource> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) list.add(generator.apply(i));
+            materialized = list;
+        }
+        return materialized;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Groups a sequence into a Lookup each time it is enumerated, so the source is not read until the groupings are.
+ */
+class GroupByEnumerableIterator<TSource, TKey, TElement> implements IEnumerable<IGrouping<TKey, TElement>> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final Function<TSource, TKey> keySelector;
+    private final Function<TSource, TElement> elementSelector;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    GroupByEnumerableIterator(IEnumerable<TSource> iterable, Function<TSource, TKey> keySelector, Function<TSource, TElement> elementSelector) {
+        this.iterable = iterable;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<IGrouping<TKey, TElement>> iterator() {
+        return Lookup.create(iterable, keySelector, elementSelector).iterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("GroupBy", "", QueryPlan.of(iterable));
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jlinqer.linq;
+
+import java.util.Arrays;
+
+/**
+ * An append-only group of elements that share a key, stored in a growable array.
+ */
+class Grouping<TKey, TElement> extends ListEnumerableIterator<TElement> implements IGrouping<TKey, TElement> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final TKey key;
+    private Object[] elements = new Object[1];
+    private int count = 0;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    Grouping(TKey key) {
+        this.key = key;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface IGrouping ---------------------
+
+    @Override
+    public TKey getKey() {
+        return key;
+    }
+
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public TElement get(int index) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+
+        return (TElement) elements[index];
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    void add(TElement element) {
+        if (count == elements.length) elements = Arrays.copyOf(elements, count * 2);
+        elements[count++] = element;
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.jlinqer.linq;
+
+/**
+ * An IEnumerable&lt;TSource&gt; that knows its number of elements without enumerating them.
+ * Operators such as count(), any() and toList() use size() instead of walking the sequence.
+ *
+ * @param <TSource> The type of the elements of the sequence.
+ */
+public interface ICollection<TSource> extends IEnumerable<TSource> {
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Returns the number of elements in the sequence.
+     *
+     * @return The number of elements in the sequence.
+     */
+    int size();
+}
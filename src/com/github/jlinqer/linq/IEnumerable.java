@@ -1,13 +1,20 @@
 package com.github.jlinqer.linq;
 
 import com.github.jlinqer.collections.Dictionary;
+import com.github.jlinqer.collections.IntDictionary;
 import com.github.jlinqer.collections.List;
+import com.github.jlinqer.collections.LongDictionary;
 import com.github.jlinqer.collections.Set;
 
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by Reuben Kuhnert
@@ -21,7 +28,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      *
      * @param start ﻿The value of the first integer in the sequence.
      * @param count ﻿The number of sequential integers to generate.
-     * @return ﻿A List&lt;Integer&gt; that ﻿contains a range of sequential integral numbers.
+     * @return ﻿A List&lt;Integer&gt; that ﻿contains a range of sequential integral numbers. Its elements are
+     * computed on demand, so it takes constant memory until it is first modified.
      * @throws IndexOutOfBoundsException ﻿count is less than 0.-or-start + count -1 is larger than Integer.MaxValue.
      */
     static List<Integer> range(final int start, final int count) throws IndexOutOfBoundsException {
@@ -29,12 +37,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         if (Integer.MAX_VALUE < (long) start + (long) count - 1)
             throw new IndexOutOfBoundsException("start + count -1 is larger than Integer.MaxValue.");
 
-        List<Integer> list = new List<>();
-        for (int i = 0; i < count; i++) {
-            list.add(start + i);
-        }
-
-        return list;
+        return new List<>(new GeneratedList<>(count, index -> start + index));
     }
 
     /**
@@ -44,7 +47,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @param element   ﻿The value to be repeated.
      * @param count     ﻿The number of times to repeat the value in the generated sequence.
      * @param <TResult> ﻿The type of the value to be repeated in the result sequence.
-     * @return ﻿A List&lt;TResult&gt; that contains a repeated value.
+     * @return ﻿A List&lt;TResult&gt; that contains a repeated value. It takes constant memory until it is first modified.
      * @throws IllegalArgumentException  ﻿type is null.
      * @throws IndexOutOfBoundsException ﻿count is less than 0.
      */
@@ -52,12 +55,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         if (type == null) throw new IllegalArgumentException("type is null.");
         if (count < 0) throw new IndexOutOfBoundsException("count is less than 0.");
 
-        List<TResult> list = new List<>();
-        for (int i = 0; i < count; i++) {
-            list.add(element);
-        }
-
-        return list;
+        return new List<>(new GeneratedList<>(count, index -> element));
     }
 
     /**
@@ -74,6 +72,142 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return new List<>();
     }
 
+    /**
+     * Wraps a stream as an IEnumerable&lt;TSource&gt; without consuming it. Like the stream,
+     * the result can be enumerated only once.
+     *
+     * @param stream    The stream to wrap.
+     * @param <TSource> The type of the elements of stream.
+     * @return An IEnumerable&lt;TSource&gt; that pulls its elements from stream on demand.
+     * @throws IllegalArgumentException stream is null.
+     */
+    static <TSource> IEnumerable<TSource> from(final Stream<TSource> stream) throws IllegalArgumentException {
+        if (stream == null) throw new IllegalArgumentException("stream is null.");
+
+        return new StreamEnumerableIterator<>(stream);
+    }
+
+    /**
+     * Generates an unbounded sequence whose elements are produced by supplier, one per element enumerated.
+     * Bound it with take() or takeWhile().
+     *
+     * @param supplier  The function that produces each element.
+     * @param <TResult> The type of the elements of the sequence.
+     * @return An infinite IEnumerable&lt;TResult&gt; of supplied values.
+     * @throws IllegalArgumentException supplier is null.
+     */
+    static <TResult> IEnumerable<TResult> generate(final Supplier<TResult> supplier) throws IllegalArgumentException {
+        if (supplier == null) throw new IllegalArgumentException("supplier is null.");
+
+        return () -> new Iterator<TResult>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public TResult next() {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Generates an unbounded sequence that starts with seed and applies next to the previous element to produce
+     * the following one. Bound it with take() or takeWhile().
+     *
+     * @param seed      The first element of the sequence.
+     * @param next      The function that computes an element from the previous one.
+     * @param <TResult> The type of the elements of the sequence.
+     * @return An infinite IEnumerable&lt;TResult&gt; of seed, next(seed), next(next(seed)), ...
+     * @throws IllegalArgumentException next is null.
+     */
+    static <TResult> IEnumerable<TResult> iterate(final TResult seed, final UnaryOperator<TResult> next) throws IllegalArgumentException {
+        if (next == null) throw new IllegalArgumentException("next is null.");
+
+        return () -> new Iterator<TResult>() {
+            private TResult current = seed;
+            private boolean started = false;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public TResult next() {
+                if (started) current = next.apply(current);
+                started = true;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns the lines of a UTF-8 text file. See lines(Path, Charset).
+     *
+     * @param path The file to read.
+     * @return An IEnumerable&lt;String&gt; of the lines of the file.
+     * @throws IllegalArgumentException path is null.
+     */
+    static IEnumerable<String> lines(final Path path) throws IllegalArgumentException {
+        return lines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the lines of a text file, read through a memory mapping rather than loaded into the heap. Lines
+     * are split on '\n' bytes, a trailing "\r" is dropped, and only the lines actually enumerated are decoded.
+     * Each enumeration maps the file again; an I/O failure surfaces then as an UncheckedIOException.
+     * <p>
+     * asParallelStream() splits the file at line boundaries, and the spliterator estimates the number of lines
+     * from a sample of the file.
+     *
+     * @param path    The file to read.
+     * @param charset The charset of the file; it must encode '\n' as a single byte, as UTF-8 and ISO-8859-1 do.
+     * @return An IEnumerable&lt;String&gt; of the lines of the file.
+     * @throws IllegalArgumentException path or charset is null.-or-charset does not encode '\n' as a single byte.
+     */
+    static IEnumerable<String> lines(final Path path, final Charset charset) throws IllegalArgumentException {
+        if (path == null) throw new IllegalArgumentException("path is null.");
+        if (charset == null) throw new IllegalArgumentException("charset is null.");
+        MappedLines.singleByte('\n', charset, "'\\n'");
+
+        return new MappedLines<>(path, charset, (buffer, start, end) -> MappedLines.decode(buffer, start, end, charset), MappedLines.DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Returns the delimited records of a UTF-8 text file. See records(Path, char, Charset).
+     *
+     * @param path      The file to read.
+     * @param delimiter The character that separates the fields of a line.
+     * @return An IEnumerable&lt;DelimitedRecord&gt; with one record per line of the file.
+     * @throws IllegalArgumentException path is null.-or-delimiter is a line break or not a single byte in UTF-8.
+     */
+    static IEnumerable<DelimitedRecord> records(final Path path, final char delimiter) throws IllegalArgumentException {
+        return records(path, delimiter, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns one DelimitedRecord per line of a text file, read through a memory mapping like lines(Path, Charset).
+     * A record keeps referring to the mapped bytes and decodes a field only when it is read.
+     *
+     * @param path      The file to read.
+     * @param delimiter The character that separates the fields of a line.
+     * @param charset   The charset of the file; it must encode '\n' and delimiter as single bytes.
+     * @return An IEnumerable&lt;DelimitedRecord&gt; with one record per line of the file.
+     * @throws IllegalArgumentException path or charset is null.-or-delimiter is a line break.-or-charset does not
+     *                                  encode '\n' or delimiter as a single byte.
+     */
+    static IEnumerable<DelimitedRecord> records(final Path path, final char delimiter, final Charset charset) throws IllegalArgumentException {
+        if (path == null) throw new IllegalArgumentException("path is null.");
+        if (charset == null) throw new IllegalArgumentException("charset is null.");
+        if (delimiter == '\n' || delimiter == '\r') throw new IllegalArgumentException("delimiter is a line break.");
+        MappedLines.singleByte('\n', charset, "'\\n'");
+        final byte separator = MappedLines.singleByte(delimiter, charset, "delimiter");
+
+        return new MappedLines<>(path, charset, (buffer, start, end) -> new DelimitedRecord(buffer, start, end, separator, charset), MappedLines.DEFAULT_REGION_SIZE);
+    }
+
 // -------------------------- OTHER METHODS --------------------------
 
     /**
@@ -86,9 +220,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default TSource aggregate(final BinaryOperator<TSource> accumulator) throws IllegalArgumentException, UnsupportedOperationException {
         if (accumulator == null) throw new IllegalArgumentException("accumulator is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
         TSource result = iterator.next();
         while (iterator.hasNext()) {
             TSource elem = iterator.next();
@@ -98,6 +233,36 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return result;
     }
 
+    /**
+     * Runs several aggregators over a single enumeration of the sequence.
+     *
+     * @param aggregators The aggregators to run; each sees every element, in order.
+     * @return The results, looked up by aggregator or by position.
+     * @throws IllegalArgumentException aggregators is null or contains null.
+     */
+    @SuppressWarnings("unchecked")
+    default AggregateResults aggregateAll(final Iterable<? extends Aggregator<TSource, ?, ?>> aggregators) throws IllegalArgumentException {
+        if (aggregators == null) throw new IllegalArgumentException("aggregators is null.");
+
+        // each accumulator value is only ever handed back to the aggregator that produced it
+        final ArrayList<Aggregator<TSource, Object, Object>> steps = new ArrayList<>();
+        for (Aggregator<TSource, ?, ?> aggregator : aggregators) {
+            if (aggregator == null) throw new IllegalArgumentException("aggregators contains null.");
+
+            steps.add((Aggregator<TSource, Object, Object>) aggregator);
+        }
+
+        final Object[] accumulates = new Object[steps.size()];
+        for (int i = 0; i < accumulates.length; i++) accumulates[i] = steps.get(i).seed();
+
+        for (TSource item : this) {
+            for (int i = 0; i < accumulates.length; i++) accumulates[i] = steps.get(i).accumulate(accumulates[i], item);
+        }
+
+        for (int i = 0; i < accumulates.length; i++) accumulates[i] = steps.get(i).result(accumulates[i]);
+        return new AggregateResults(steps.toArray(new Aggregator<?, ?, ?>[0]), accumulates);
+    }
+
     /**
      * ﻿Returns the number of elements in a sequence.
      *
@@ -105,6 +270,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @throws ArithmeticException ﻿The number of elements in source is larger than Integer.MaxValue.
      */
     default int count() throws ArithmeticException {
+        if (this instanceof ICollection) return ((ICollection<TSource>) this).size();
+
         int count = 0;
         for (TSource item : this) {
             count = Math.addExact(count, 1);
@@ -132,6 +299,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @return ﻿true if the source sequence contains any elements    { return null;} otherwise, false.
      */
     default boolean any() {
+        if (this instanceof ICollection) return ((ICollection<TSource>) this).size() != 0;
+
         return this.iterator().hasNext();
     }
 
@@ -149,6 +318,33 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return this.where(predicate).any();
     }
 
+    /**
+     * Enables parallelization of a query.
+     *
+     * @return A ParallelQuery&lt;TSource&gt; that runs its operators on the common ForkJoinPool.
+     */
+    default ParallelQuery<TSource> asParallel() {
+        return new ParallelQuery<>(this);
+    }
+
+    /**
+     * Returns a parallel java.util.stream.Stream over this sequence.
+     *
+     * @return A parallel Stream&lt;TSource&gt; backed by spliterator().
+     */
+    default Stream<TSource> asParallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a sequential java.util.stream.Stream over this sequence.
+     *
+     * @return A Stream&lt;TSource&gt; backed by spliterator().
+     */
+    default Stream<TSource> asStream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * ﻿﻿Computes the average of a sequence of Decimal values that are obtained
      * ﻿by invoking a transform function on each element of the input sequence.
@@ -160,7 +356,6 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default BigDecimal averageBigDecimal(final Function<TSource, BigDecimal> selector) throws IllegalArgumentException, UnsupportedOperationException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         BigDecimal sum = BigDecimal.ZERO;
         long count = 0;
@@ -169,6 +364,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
             sum = sum.add(selector.apply(item));
             count++;
         }
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         return sum.divide(new BigDecimal(count));
     }
@@ -184,15 +380,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default double averageDouble(final Function<TSource, Double> selector) throws IllegalArgumentException, UnsupportedOperationException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return averageDouble((DoubleSelector<TSource>) selector::apply);
+    }
+
+    /**
+     * ﻿﻿﻿Computes the average of a sequence of Double values that are obtained
+     * ﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿The average of the sequence of values.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException ﻿source contains no elements.
+     */
+    default double averageDouble(final DoubleSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
 
         double sum = 0;
         long count = 0;
 
         for (TSource item : this) {
-            sum += selector.apply(item);
+            sum += selector.applyAsDouble(item);
             count++;
         }
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         return sum / (double) count;
     }
@@ -209,15 +420,31 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default double averageInt(final Function<TSource, Integer> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return averageInt((IntSelector<TSource>) selector::apply);
+    }
+
+    /**
+     * ﻿﻿Computes the average of a sequence of Integer values that are obtained
+     * ﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿﻿The average of the sequence of values.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException ﻿source contains no elements.
+     * @throws ArithmeticException           ﻿The sum of the elements in the sequence is larger than Integer.MaxValue.
+     */
+    default double averageInt(final IntSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
 
         int sum = 0;
         long count = 0;
 
         for (TSource item : this) {
-            sum = Math.addExact(sum, selector.apply(item));
+            sum = Math.addExact(sum, selector.applyAsInt(item));
             count++;
         }
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         return sum / (double) count;
     }
@@ -234,15 +461,31 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default double averageLong(final Function<TSource, Long> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return averageLong((LongSelector<TSource>) selector::apply);
+    }
+
+    /**
+     * ﻿﻿Computes the average of a sequence of Long values that are obtained
+     * ﻿﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿The average of the sequence of values.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException ﻿source contains no elements.
+     * @throws ArithmeticException           ﻿The sum of the elements in the sequence is larger than Long.MaxValue.
+     */
+    default double averageLong(final LongSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
 
         long sum = 0;
         long count = 0;
 
         for (TSource item : this) {
-            sum = Math.addExact(sum, selector.apply(item));
+            sum = Math.addExact(sum, selector.applyAsLong(item));
             count++;
         }
+        if (count == 0) throw new UnsupportedOperationException("source contains no elements.");
 
         return sum / (double) count;
     }
@@ -274,13 +517,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿value for the TSource type if source is empty    { return null;} otherwise, source.
      */
     default IEnumerable<TSource> defaultIfEmpty() {
-        if (this.count() == 0) {
-            List<TSource> list = new List<>();
-            list.add(null);
-            return list;
-        }
-
-        return this;
+        return new DefaultIfEmptyEnumerableIterator<>(this, null);
     }
 
     /**
@@ -292,7 +529,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿source is empty    { return null;} otherwise, source.
      */
     default IEnumerable<TSource> defaultIfEmpty(final TSource defaultValue) {
-        return (this.count() == 0) ? new List<>(defaultValue) : this;
+        return new DefaultIfEmptyEnumerableIterator<>(this, defaultValue);
     }
 
     /**
@@ -318,9 +555,20 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿otherwise, the element at the specified position in the source sequence.
      */
     default TSource elementAtOrDefault(final int index) {
-        return (index < 0 || this.count() < index + 1)
-                ? null
-                : this.elementAt(index);
+        if (index < 0) return null;
+
+        if (this instanceof IList) {
+            final IList<TSource> list = (IList<TSource>) this;
+            return (index < list.size()) ? list.get(index) : null;
+        }
+
+        final Iterator<TSource> iterator = this.iterator();
+        for (int i = 0; i < index; i++) {
+            if (!iterator.hasNext()) return null;
+            iterator.next();
+        }
+
+        return iterator.hasNext() ? iterator.next() : null;
     }
 
     /**
@@ -332,21 +580,26 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      *                                   ﻿source.
      */
     default TSource elementAt(final int index) throws IndexOutOfBoundsException {
-        if (index < 0 || this.count() < index + 1)
+        if (index < 0)
             throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
 
-        if (this.count() == 0) throw new UnsupportedOperationException("The source sequence is empty.");
-
-        Iterator<TSource> iterator = this.iterator();
-        if (!iterator.hasNext())
-            throw new UnsupportedOperationException("The source sequence is empty.");
+        if (this instanceof IList) {
+            final IList<TSource> list = (IList<TSource>) this;
+            if (index >= list.size())
+                throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+            return list.get(index);
+        }
 
-        TSource returnValue = null;
-        for (int i = 0; i <= index; i++) {
-            returnValue = iterator.next();
+        final Iterator<TSource> iterator = this.iterator();
+        for (int i = 0; i < index; i++) {
+            if (!iterator.hasNext()) break;
+            iterator.next();
         }
 
-        return returnValue;
+        if (!iterator.hasNext())
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+
+        return iterator.next();
     }
 
     /**
@@ -381,6 +634,17 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         };
     }
 
+    /**
+     * Describes the operators this query will run, after the rewrites applied while it was built: consecutive
+     * wheres are fused into one predicate, a where followed by a select into one pass, and an orderBy followed by
+     * take into a top-k selection. Sequences that are not query operators appear as Source nodes.
+     *
+     * @return The QueryPlan of this sequence.
+     */
+    default QueryPlan explain() {
+        return QueryPlan.source(this);
+    }
+
     /**
      * ﻿Returns the first element of a sequence.
      *
@@ -388,8 +652,6 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @throws UnsupportedOperationException The source sequence is empty.
      */
     default TSource first() throws UnsupportedOperationException {
-        if (this.count() == 0) throw new UnsupportedOperationException("The source sequence is empty.");
-
         final Iterator<TSource> iterator = this.iterator();
         if (iterator.hasNext()) return iterator.next();
 
@@ -406,10 +668,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default TSource first(final Predicate<TSource> predicate) throws UnsupportedOperationException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("The source sequence is empty.");
 
-        final Iterator<TSource> iterator = this.where(predicate).iterator();
-        if (iterator.hasNext()) return iterator.next();
+        for (TSource item : this) {
+            if (predicate.test(item)) return item;
+        }
 
         throw new UnsupportedOperationException("No element satisfies the condition in predicate.-or-The source sequence is empty.");
     }
@@ -457,25 +719,51 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey> Map<TKey, IEnumerable<TSource>> groupBy(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        IEnumerable<TKey> keys = this.select(keySelector);
-        Set<TKey> uniqueKeys = new Set<>();
-        for (TKey key : keys) {
-            uniqueKeys.add(key);
+        Map<TKey, IEnumerable<TSource>> result = new LinkedHashMap<>();
+        for (IGrouping<TKey, TSource> grouping : Lookup.create(this, keySelector, Function.identity())) {
+            result.put(grouping.getKey(), grouping);
         }
 
-        Map<TKey, IEnumerable<TSource>> result = new HashMap<>();
+        return result;
+    }
 
-        for (TKey uniqueKey : uniqueKeys) {
-            List<TSource> value = new List<>();
-            for (TSource item : this) {
-                if (keySelector.apply(item).equals(uniqueKey)) {
-                    value.add(item);
-                }
-            }
-            result.put(uniqueKey, value);
-        }
+    /**
+     * Groups the elements of a sequence according to a specified key selector function and projects the elements for
+     * each group by using a specified function. Each key is computed once and groupings are returned in the order
+     * their keys were first seen. The source is not enumerated until the result is.
+     *
+     * @param keySelector     A function to extract the key for each element.
+     * @param elementSelector A function to map each source element to an element in an IGrouping&lt;TKey, TElement&gt;.
+     * @param <TKey>          The type of the key returned by keySelector.
+     * @param <TElement>      The type of the elements in the IGrouping&lt;TKey, TElement&gt;.
+     * @return An IEnumerable&lt;IGrouping&lt;TKey, TElement&gt;&gt; where each IGrouping&lt;TKey, TElement&gt; object
+     * contains a collection of objects of type TElement and a key.
+     * @throws IllegalArgumentException keySelector or elementSelector is null.
+     */
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(final Function<TSource, TKey> keySelector, final Function<TSource, TElement> elementSelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+        if (elementSelector == null) throw new IllegalArgumentException("elementSelector is null.");
 
-        return result;
+        return new GroupByEnumerableIterator<>(this, keySelector, elementSelector);
+    }
+
+    /**
+     * Groups the elements of a sequence according to a specified key selector function and creates a result value
+     * from each group and its key. Each key is computed once and results are returned in the order their keys were
+     * first seen. The source is not enumerated until the result is.
+     *
+     * @param keySelector    A function to extract the key for each element.
+     * @param resultSelector A function to create a result value from each group.
+     * @param <TKey>         The type of the key returned by keySelector.
+     * @param <TResult>      The type of the result value returned by resultSelector.
+     * @return A collection of elements of type TResult where each element represents a projection over a group and its key.
+     * @throws IllegalArgumentException keySelector or resultSelector is null.
+     */
+    default <TKey, TResult> IEnumerable<TResult> groupBy(final Function<TSource, TKey> keySelector, final BiFunction<TKey, IEnumerable<TSource>, TResult> resultSelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+        if (resultSelector == null) throw new IllegalArgumentException("resultSelector is null.");
+
+        return this.groupBy(keySelector, Function.identity()).select(grouping -> resultSelector.apply(grouping.getKey(), grouping));
     }
 
     /**
@@ -498,33 +786,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         if (resultSelector == null) throw new IllegalArgumentException("resultSelector");
 
         return () -> {
-            java.util.Queue<TResult> queue = new ArrayDeque<>();
-
-            for (TSource outerItem : this) {
-                TKey outerKey = outerKeySelector.apply(outerItem);
-
-                List<TInner> elem = new List<>();
-                for (TInner innerItem : inner) {
-                    TKey innerKey = innerKeySelector.apply(innerItem);
-                    boolean isMatch = Objects.equals(outerKey, innerKey);
-                    if (isMatch) {
-                        elem.add(innerItem);
-                    }
-                }
-                queue.add(resultSelector.apply(outerItem, elem));
-            }
-
-            return new Iterator<TResult>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TResult next() {
-                    return queue.remove();
-                }
-            };
+            final Lookup<TKey, TInner> lookup = Lookup.create(inner, innerKeySelector, Function.identity());
+            return this.select(outerItem -> resultSelector.apply(outerItem, lookup.get(outerKeySelector.apply(outerItem)))).iterator();
         };
     }
 
@@ -540,25 +803,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TResult> IEnumerable<TResult> select(final Function<TSource, TResult> selector) throws IllegalArgumentException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
 
-        return () -> {
-            java.util.Queue<TResult> queue = new ArrayDeque<>();
-
-            for (TSource item : this) {
-                queue.add(selector.apply(item));
-            }
-
-            return new Iterator<TResult>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TResult next() {
-                    return queue.remove();
-                }
-            };
-        };
+        return MapEnumerableIterator.create(this, selector);
     }
 
     /**
@@ -605,33 +850,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         if (innerKeySelector == null) throw new IllegalArgumentException("innerKeySelector");
         if (resultSelector == null) throw new IllegalArgumentException("resultSelector");
 
-        return () -> {
-            java.util.Queue<TResult> queue = new ArrayDeque<>();
-
-            for (TSource outerItem : this) {
-                TKey outerKey = outerKeySelector.apply(outerItem);
-
-                for (TInner innerItem : inner) {
-                    TKey innerKey = innerKeySelector.apply(innerItem);
-                    boolean isMatch = Objects.equals(outerKey, innerKey);
-                    if (isMatch) {
-                        queue.add(resultSelector.apply(outerItem, innerItem));
-                    }
-                }
-            }
-
-            return new Iterator<TResult>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TResult next() {
-                    return queue.remove();
-                }
-            };
-        };
+        return new JoinEnumerableIterator<>(this, inner, outerKeySelector, innerKeySelector, resultSelector);
     }
 
     /**
@@ -641,7 +860,12 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @throws UnsupportedOperationException ﻿The source sequence is empty.
      */
     default TSource last() throws UnsupportedOperationException {
-        if (this.count() == 0) throw new UnsupportedOperationException("The source sequence is empty.");
+        if (this instanceof IList) {
+            final IList<TSource> list = (IList<TSource>) this;
+            final int size = list.size();
+            if (size == 0) throw new UnsupportedOperationException("The source sequence is empty.");
+            return list.get(size - 1);
+        }
 
         final Iterator<TSource> iterator = this.iterator();
         if (!iterator.hasNext())
@@ -665,18 +889,19 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default TSource last(final Predicate<TSource> predicate) throws IllegalArgumentException, UnsupportedOperationException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("The source sequence is empty.");
-
-        final long count = this.longCount(predicate);
-        if (count == 0)
-            throw new UnsupportedOperationException("The source sequence is empty.");
 
-        final Iterator<TSource> iterator = this.where(predicate).iterator();
+        boolean found = false;
         TSource returnValue = null;
-        while (iterator.hasNext()) {
-            returnValue = iterator.next();
+        for (TSource item : this) {
+            if (predicate.test(item)) {
+                returnValue = item;
+                found = true;
+            }
         }
 
+        if (!found)
+            throw new UnsupportedOperationException("No element satisfies the condition in predicate.-or-The source sequence is empty.");
+
         return returnValue;
     }
 
@@ -704,15 +929,15 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿in the IEnumerable&lt;TSource&gt;.
      */
     default TSource lastOrDefault() {
-        if (this.count() == 0) return null;
-
-        final Iterator<TSource> iterator = this.iterator();
-        if (!iterator.hasNext())
-            return null;
+        if (this instanceof IList) {
+            final IList<TSource> list = (IList<TSource>) this;
+            final int size = list.size();
+            return (size == 0) ? null : list.get(size - 1);
+        }
 
         TSource returnValue = null;
-        while (iterator.hasNext()) {
-            returnValue = iterator.next();
+        for (TSource item : this) {
+            returnValue = item;
         }
 
         return returnValue;
@@ -731,16 +956,9 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default TSource lastOrDefault(final Predicate<TSource> predicate) throws IllegalArgumentException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
 
-        if (this.count() == 0) return null;
-
-        final long count = this.longCount(predicate);
-        if (count == 0)
-            return null;
-
-        final Iterator<TSource> iterator = this.where(predicate).iterator();
         TSource returnValue = null;
-        while (iterator.hasNext()) {
-            returnValue = iterator.next();
+        for (TSource item : this) {
+            if (predicate.test(item)) returnValue = item;
         }
 
         return returnValue;
@@ -753,6 +971,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @throws ArithmeticException ﻿The number of elements exceeds Long.MaxValue.
      */
     default long longCount() throws ArithmeticException {
+        if (this instanceof ICollection) return ((ICollection<TSource>) this).size();
+
         long count = 0;
         for (TSource item : this) {
             count = Math.addExact(count, 1);
@@ -772,21 +992,20 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default <TKey extends Comparable> TSource max(final Function<TSource, TKey> selector) throws IllegalArgumentException, UnsupportedOperationException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
 
-        TSource maxItem = null;
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
 
-        for (TSource item : this) {
-            if (maxItem == null) {
-                maxItem = item;
-                continue;
-            }
+        TSource maxItem = iterator.next();
+        TKey maxKey = selector.apply(maxItem);
 
-            final TKey second = selector.apply(item);
-            final TKey first = selector.apply(maxItem);
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final TKey key = selector.apply(item);
 
-            if (second.compareTo(first) > 0) {
+            if (key.compareTo(maxKey) > 0) {
                 maxItem = item;
+                maxKey = key;
             }
         }
 
@@ -805,21 +1024,20 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      */
     default <TKey extends Comparable> TSource min(final Function<TSource, TKey> selector) throws IllegalArgumentException, UnsupportedOperationException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
 
-        TSource minItem = null;
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
 
-        for (TSource item : this) {
-            if (minItem == null) {
-                minItem = item;
-                continue;
-            }
+        TSource minItem = iterator.next();
+        TKey minKey = selector.apply(minItem);
 
-            final TKey second = selector.apply(item);
-            final TKey first = selector.apply(minItem);
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final TKey key = selector.apply(item);
 
-            if (second.compareTo(first) < 0) {
+            if (key.compareTo(minKey) < 0) {
                 minItem = item;
+                minKey = key;
             }
         }
 
@@ -827,18 +1045,204 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     }
 
     /**
-     * ﻿Filters the elements of an IEnumerable based on a specified ﻿type.
+     * Returns the element with the largest int key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
      *
-     * @param type      ﻿The type to filter the elements of the sequence on.
-     * @param <TResult> ﻿The type to filter the elements of the sequence on.
-     * @return ﻿An IEnumerable&lt;TSource&gt; that contains elements from ﻿the input sequence of type TResult.
-     * @throws IllegalArgumentException type is null.
+     * @param selector A function to extract the key from an element.
+     * @return The element with the largest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
      */
-    default <TResult> IEnumerable<TResult> ofType(final Class<TResult> type) throws IllegalArgumentException {
-        if (type == null) throw new IllegalArgumentException("type is null.");
+    default TSource maxInt(final ToIntFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
 
-        return this.where(x -> type.isAssignableFrom(x.getClass())).cast(type);
-    }
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource maxItem = iterator.next();
+        int maxKey = selector.applyAsInt(maxItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final int key = selector.applyAsInt(item);
+
+            if (key > maxKey) {
+                maxItem = item;
+                maxKey = key;
+            }
+        }
+
+        return maxItem;
+    }
+
+    /**
+     * Returns the element with the largest long key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
+     *
+     * @param selector A function to extract the key from an element.
+     * @return The element with the largest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default TSource maxLong(final ToLongFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource maxItem = iterator.next();
+        long maxKey = selector.applyAsLong(maxItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final long key = selector.applyAsLong(item);
+
+            if (key > maxKey) {
+                maxItem = item;
+                maxKey = key;
+            }
+        }
+
+        return maxItem;
+    }
+
+    /**
+     * Returns the element with the largest double key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
+     *
+     * @param selector A function to extract the key from an element.
+     * @return The element with the largest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default TSource maxDouble(final ToDoubleFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource maxItem = iterator.next();
+        double maxKey = selector.applyAsDouble(maxItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final double key = selector.applyAsDouble(item);
+
+            if (Double.compare(key, maxKey) > 0) {
+                maxItem = item;
+                maxKey = key;
+            }
+        }
+
+        return maxItem;
+    }
+
+    /**
+     * Returns the element with the smallest int key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
+     *
+     * @param selector A function to extract the key from an element.
+     * @return The element with the smallest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default TSource minInt(final ToIntFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource minItem = iterator.next();
+        int minKey = selector.applyAsInt(minItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final int key = selector.applyAsInt(item);
+
+            if (key < minKey) {
+                minItem = item;
+                minKey = key;
+            }
+        }
+
+        return minItem;
+    }
+
+    /**
+     * Returns the element with the smallest long key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
+     *
+     * @param selector A function to extract the key from an element.
+     * @return The element with the smallest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default TSource minLong(final ToLongFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource minItem = iterator.next();
+        long minKey = selector.applyAsLong(minItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final long key = selector.applyAsLong(item);
+
+            if (key < minKey) {
+                minItem = item;
+                minKey = key;
+            }
+        }
+
+        return minItem;
+    }
+
+    /**
+     * Returns the element with the smallest double key, comparing the keys without boxing them.
+     * Of several elements with that key, the first one is returned.
+     *
+     * @param selector A function to extract the key from an element.
+     * @return The element with the smallest key.
+     * @throws IllegalArgumentException      selector is null.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default TSource minDouble(final ToDoubleFunction<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        final Iterator<TSource> iterator = this.iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        TSource minItem = iterator.next();
+        double minKey = selector.applyAsDouble(minItem);
+
+        while (iterator.hasNext()) {
+            final TSource item = iterator.next();
+            final double key = selector.applyAsDouble(item);
+
+            if (Double.compare(key, minKey) < 0) {
+                minItem = item;
+                minKey = key;
+            }
+        }
+
+        return minItem;
+    }
+
+    /**
+     * ﻿Filters the elements of an IEnumerable based on a specified ﻿type.
+     *
+     * @param type      ﻿The type to filter the elements of the sequence on.
+     * @param <TResult> ﻿The type to filter the elements of the sequence on.
+     * @return ﻿An IEnumerable&lt;TSource&gt; that contains elements from ﻿the input sequence of type TResult.
+     * @throws IllegalArgumentException type is null.
+     */
+    default <TResult> IEnumerable<TResult> ofType(final Class<TResult> type) throws IllegalArgumentException {
+        if (type == null) throw new IllegalArgumentException("type is null.");
+
+        return this.where(x -> type.isAssignableFrom(x.getClass())).cast(type);
+    }
 
     /**
      * ﻿Casts the elements of a IEnumerable to the specified type.
@@ -848,13 +1252,32 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @return ﻿An &lt;TResult&gt; that contains each element of
      * ﻿the source sequence cast to the specified type.
      * @throws IllegalArgumentException      toType is null.
-     * @throws UnsupportedOperationException ﻿source contains no elements.
+     * @throws UnsupportedOperationException ﻿source contains no elements, when the result is enumerated.
      */
     default <TResult> IEnumerable<TResult> cast(final Class<TResult> toType) throws IllegalArgumentException, UnsupportedOperationException {
         if (toType == null) throw new IllegalArgumentException("toType is null.");
-        if (this.count() == 0) throw new UnsupportedOperationException("source contains no elements.");
 
-        return new MapEnumerableIterator<>(this, item -> (TResult) item);
+        final IEnumerable<TSource> source = this;
+        return () -> new Iterator<TResult>() {
+            private final Iterator<TSource> iterator = source.iterator();
+            private boolean checked = false;
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!checked) {
+                    checked = true;
+                    if (!hasNext) throw new UnsupportedOperationException("source contains no elements.");
+                }
+                return hasNext;
+            }
+
+            @Override
+            public TResult next() {
+                if (!checked) hasNext();
+                return (TResult) iterator.next();
+            }
+        };
     }
 
     /**
@@ -863,22 +1286,28 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @return ﻿A sequence whose elements correspond to those of the input sequence in reverse ﻿order.
      */
     default IEnumerable<TSource> reverse() {
-        return () -> {
-            Stack<TSource> stack = new Stack<>();
-            for (TSource item : IEnumerable.this) stack.push(item);
+        if (ListEnumerableIterator.isRandomAccess(this)) {
+            final IList<TSource> list = (IList<TSource>) this;
+            return new ListEnumerableIterator<TSource>() {
+                @Override
+                public Iterator<TSource> iterator() {
+                    // enumerate a copy taken now, so that changes to the source do not skip or repeat elements
+                    return new ReverseEnumerableIterator<>(list).iterator();
+                }
 
-            return new Iterator<TSource>() {
                 @Override
-                public boolean hasNext() {
-                    return !stack.empty();
+                public int size() {
+                    return list.size();
                 }
 
                 @Override
-                public TSource next() {
-                    return stack.pop();
+                public TSource get(int index) {
+                    return list.get(list.size() - 1 - index);
                 }
             };
-        };
+        }
+
+        return new ReverseEnumerableIterator<>(this);
     }
 
     /**
@@ -892,27 +1321,81 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TResult> IEnumerable<TResult> selectMany(final Function<TSource, IEnumerable<TResult>> selector) throws IllegalArgumentException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
 
-        return () -> {
-            java.util.Queue<TResult> queue = new ArrayDeque<>();
+        return new SelectManyEnumerableIterator<>(this, selector);
+    }
 
-            for (TSource item : this) {
-                final IEnumerable<TResult> selected = selector.apply(item);
-                for (TResult aSelected : selected) {
-                    queue.add(aSelected);
-                }
+    /**
+     * Projects each element of a sequence into a double value without boxing it.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A DoubleEnumerable whose elements are the result of invoking the transform function on each element of source.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default DoubleEnumerable selectDouble(final ToDoubleFunction<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final Iterator<TSource> iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
             }
 
-            return new Iterator<TResult>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
+            @Override
+            public double nextDouble() {
+                return selector.applyAsDouble(iterator.next());
+            }
+        };
+    }
 
-                @Override
-                public TResult next() {
-                    return queue.remove();
-                }
-            };
+    /**
+     * Projects each element of a sequence into an int value without boxing it.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return An IntEnumerable whose elements are the result of invoking the transform function on each element of source.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default IntEnumerable selectInt(final ToIntFunction<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private final Iterator<TSource> iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return selector.applyAsInt(iterator.next());
+            }
+        };
+    }
+
+    /**
+     * Projects each element of a sequence into a long value without boxing it.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A LongEnumerable whose elements are the result of invoking the transform function on each element of source.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default LongEnumerable selectLong(final ToLongFunction<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private final Iterator<TSource> iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return selector.applyAsLong(iterator.next());
+            }
         };
     }
 
@@ -929,15 +1412,34 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default boolean sequenceEqual(final IEnumerable<TSource> second) throws IllegalArgumentException {
         if (second == null) throw new IllegalArgumentException("second is null.");
 
-        if (this.count() != second.count()) return false;
+        return sequenceEqual(second, Objects::equals);
+    }
 
-        for (int i = 0; i < second.count(); i++) {
-            if (!second.elementAt(i).equals(this.elementAt((i)))) {
-                return false;
-            }
+    /**
+     * Determines whether two sequences are equal by comparing their elements by using a specified comparer.
+     * The sequences are walked in lock step and the comparison stops at the first mismatch; their sizes are
+     * compared up front only when both of them know it.
+     *
+     * @param second   An IEnumerable&lt;TSource&gt; to compare to the first sequence.
+     * @param comparer A function to test two elements for equality.
+     * @return true if the two source sequences are of equal length and their corresponding elements are equal
+     * according to comparer; otherwise, false.
+     * @throws IllegalArgumentException second or comparer is null.
+     */
+    default boolean sequenceEqual(final IEnumerable<TSource> second, final BiPredicate<TSource, TSource> comparer) throws IllegalArgumentException {
+        if (second == null) throw new IllegalArgumentException("second is null.");
+        if (comparer == null) throw new IllegalArgumentException("comparer is null.");
+
+        if (this instanceof ICollection && second instanceof ICollection
+                && ((ICollection<TSource>) this).size() != ((ICollection<TSource>) second).size()) return false;
+
+        final Iterator<TSource> firstIterator = this.iterator();
+        final Iterator<TSource> secondIterator = second.iterator();
+        while (firstIterator.hasNext()) {
+            if (!secondIterator.hasNext() || !comparer.test(firstIterator.next(), secondIterator.next())) return false;
         }
 
-        return true;
+        return !secondIterator.hasNext();
     }
 
     /**
@@ -948,9 +1450,6 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @throws UnsupportedOperationException ﻿The input sequence contains more than one element.-or-The input sequence is empty.
      */
     default TSource single() throws UnsupportedOperationException {
-        if (this.count() != 1)
-            throw new UnsupportedOperationException("The input sequence contains more than one element.-or-The input sequence is empty.");
-
         final Iterator<TSource> iterator = this.iterator();
         if (iterator.hasNext()) {
             TSource item = iterator.next();
@@ -997,15 +1496,12 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿contains no elements.
      */
     default TSource singleOrDefault() throws UnsupportedOperationException {
-        if (0 == this.count()) return null;
-        if (1 < this.count())
-            throw new UnsupportedOperationException("The input sequence contains more than one element.-or-The input sequence is empty.");
-
         final Iterator<TSource> iterator = this.iterator();
         if (iterator.hasNext()) {
             TSource item = iterator.next();
 
-            if (iterator.hasNext()) return null;
+            if (iterator.hasNext())
+                throw new UnsupportedOperationException("The input sequence contains more than one element.");
             return item;
         }
 
@@ -1043,31 +1539,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * @return ﻿An IEnumerable&lt;TSource&gt; that contains the elements that occur after the specified index in the input sequence.
      */
     default IEnumerable<TSource> skip(final int count) {
-        return () -> {
-            final Iterator<TSource> iterator = this.iterator();
-
-            for (int i = 0; i < count; i++) {
-                if (!iterator.hasNext()) break;
-                iterator.next();
-            }
-
-            java.util.Queue<TSource> queue = new ArrayDeque<>();
-            while (iterator.hasNext()) {
-                queue.add(iterator.next());
-            }
-
-            return new Iterator<TSource>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TSource next() {
-                    return queue.remove();
-                }
-            };
-        };
+        return PartitionEnumerableIterator.create(this, count, -1);
     }
 
     /**
@@ -1083,38 +1555,115 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default IEnumerable<TSource> skipWhile(final Predicate<TSource> predicate) throws IllegalArgumentException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
 
-        return () -> {
-            java.util.Queue<TSource> queue = new ArrayDeque<>();
-
-            final boolean none = (this.count(predicate) == this.count());
-            if (!none) {
-                final Iterator<TSource> iterator = this.iterator();
-                TSource item = null;
-                while (iterator.hasNext()) {
-                    item = iterator.next();
-                    if (!predicate.test(item)) {
-                        break;
-                    }
-                }
+        return new SkipWhileEnumerableIterator<>(this, predicate);
+    }
 
-                queue.add(item);
-                while (iterator.hasNext()) {
-                    queue.add(iterator.next());
-                }
-            }
+    /**
+     * Creates a Spliterator over the elements of this sequence. Random-access sequences split by index range
+     * and report exact sizes; other sized sequences report their size; the rest are unsized.
+     *
+     * @return A Spliterator&lt;TSource&gt; over the elements of this sequence.
+     */
+    @Override
+    default Spliterator<TSource> spliterator() {
+        if (ListEnumerableIterator.isRandomAccess(this)) {
+            final IList<TSource> list = (IList<TSource>) this;
+            return new ListSpliterator<>(list, 0, list.size());
+        }
+        if (this instanceof ICollection) {
+            return Spliterators.spliterator(iterator(), ((ICollection<TSource>) this).size(), Spliterator.ORDERED);
+        }
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
 
-            return new Iterator<TSource>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
+    /**
+     * Computes the count, sum, minimum, maximum, mean and variance of the double values obtained by
+     * invoking a transform function on each element, in a single pass over the sequence.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return The summary of the values; its min, max, mean and variance throw if the sequence is empty.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default DoubleStatistics stats(final ToDoubleFunction<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
 
-                @Override
-                public TSource next() {
-                    return queue.remove();
-                }
-            };
-        };
+        long count = 0;
+        double sum = 0d;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double mean = 0d;
+        double m2 = 0d;
+        for (TSource item : this) {
+            final double value = selector.applyAsDouble(item);
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+
+            final double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        return new DoubleStatistics(count, sum, min, max, mean, m2);
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum, mean and variance of the BigDecimal values obtained by
+     * invoking a transform function on each element, in a single pass over the sequence.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return The summary of the values; its min, max, mean and variance throw if the sequence is empty.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default BigDecimalStatistics statsBigDecimal(final Function<TSource, BigDecimal> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        long count = 0;
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal sumOfSquares = BigDecimal.ZERO;
+        BigDecimal min = null;
+        BigDecimal max = null;
+        for (TSource item : this) {
+            final BigDecimal value = selector.apply(item);
+            count++;
+            sum = sum.add(value);
+            sumOfSquares = sumOfSquares.add(value.multiply(value));
+            if (min == null || value.compareTo(min) < 0) min = value;
+            if (max == null || value.compareTo(max) > 0) max = value;
+        }
+        return new BigDecimalStatistics(count, sum, sumOfSquares, min, max);
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum, mean and variance of the long values obtained by
+     * invoking a transform function on each element, in a single pass over the sequence.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return The summary of the values; its min, max, mean and variance throw if the sequence is empty.
+     * @throws IllegalArgumentException selector is null.
+     * @throws ArithmeticException      The sum is larger than Long.MaxValue.
+     */
+    default LongStatistics statsLong(final ToLongFunction<TSource> selector) throws IllegalArgumentException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        long count = 0;
+        long sum = 0L;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        double mean = 0d;
+        double m2 = 0d;
+        for (TSource item : this) {
+            final long value = selector.applyAsLong(item);
+            count++;
+            sum = Math.addExact(sum, value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+
+            final double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        return new LongStatistics(count, sum, min, max, mean, m2);
     }
 
     /**
@@ -1160,13 +1709,27 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default double sumDouble(final Function<TSource, Double> selector) throws IllegalArgumentException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
 
-        double sum = 0d;
-        for (TSource item : this) sum += selector.apply(item);
-        return sum;
+        return sumDouble((DoubleSelector<TSource>) selector::apply);
     }
 
     /**
-     * ﻿Computes the sum of the sequence of Integer values that are obtained
+     * ﻿Computes the sum of the sequence of Double values that are obtained
+     * ﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿The sum of the values in the sequence.
+     * @throws IllegalArgumentException ﻿selector is null.
+     */
+    default double sumDouble(final DoubleSelector<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        double sum = 0d;
+        for (TSource item : this) sum += selector.applyAsDouble(item);
+        return sum;
+    }
+
+    /**
+     * ﻿Computes the sum of the sequence of Integer values that are obtained
      * ﻿by invoking a transform function on each element of the input sequence.
      *
      * @param selector ﻿A transform function to apply to each element.
@@ -1177,9 +1740,24 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default int sumInt(final Function<TSource, Integer> selector) throws IllegalArgumentException, ArithmeticException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
 
+        return sumInt((IntSelector<TSource>) selector::apply);
+    }
+
+    /**
+     * ﻿Computes the sum of the sequence of Integer values that are obtained
+     * ﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿﻿The sum of the values in the sequence.
+     * @throws IllegalArgumentException selector is null.
+     * @throws ArithmeticException      ﻿The sum is larger than Integer.MaxValue.
+     */
+    default int sumInt(final IntSelector<TSource> selector) throws IllegalArgumentException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
         int sum = 0;
         for (TSource item : this) {
-            sum = Math.addExact(sum, selector.apply(item));
+            sum = Math.addExact(sum, selector.applyAsInt(item));
         }
         return sum;
     }
@@ -1196,9 +1774,24 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default long sumLong(final Function<TSource, Long> selector) throws IllegalArgumentException, ArithmeticException {
         if (selector == null) throw new IllegalArgumentException("selector is null.");
 
+        return sumLong((LongSelector<TSource>) selector::apply);
+    }
+
+    /**
+     * ﻿Computes the sum of the sequence of Long values that are obtained
+     * ﻿by invoking a transform function on each element of the input sequence.
+     *
+     * @param selector ﻿A transform function to apply to each element.
+     * @return ﻿﻿The sum of the values in the sequence.
+     * @throws IllegalArgumentException selector is null.
+     * @throws ArithmeticException      ﻿The sum is larger than Integer.MaxValue.
+     */
+    default long sumLong(final LongSelector<TSource> selector) throws IllegalArgumentException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
         long sum = 0l;
         for (TSource item : this) {
-            sum = Math.addExact(sum, selector.apply(item));
+            sum = Math.addExact(sum, selector.applyAsLong(item));
         }
         return sum;
     }
@@ -1211,27 +1804,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
      * ﻿number of elements from the start of the input sequence.
      */
     default IEnumerable<TSource> take(final long count) {
-        return () -> {
-            final Iterator<TSource> iterator = this.iterator();
-
-            java.util.Queue<TSource> queue = new ArrayDeque<>();
-            for (int i = 0; i < count; i++) {
-                if (!iterator.hasNext()) break;
-                queue.add(iterator.next());
-            }
-
-            return new Iterator<TSource>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TSource next() {
-                    return queue.remove();
-                }
-            };
-        };
+        return PartitionEnumerableIterator.create(this, 0, Math.max(0, count));
     }
 
     /**
@@ -1244,29 +1817,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default IEnumerable<TSource> takeWhile(final Predicate<TSource> predicate) throws IllegalArgumentException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
 
-        return () -> {
-            java.util.Queue<TSource> queue = new ArrayDeque<>();
-
-            final boolean none = (this.count(predicate) == 0);
-            if (!none) {
-                for (TSource item : this) {
-                    if (!predicate.test(item)) break;
-                    queue.add(item);
-                }
-            }
-
-            return new Iterator<TSource>() {
-                @Override
-                public boolean hasNext() {
-                    return queue.size() != 0;
-                }
-
-                @Override
-                public TSource next() {
-                    return queue.remove();
-                }
-            };
-        };
+        return new TakeWhileEnumerableIterator<>(this, predicate);
     }
 
     /**
@@ -1280,10 +1831,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey extends Comparable> IEnumerable<TSource> thenBy(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        Comparator<TKey> comparator = (o1, o2) -> o1.compareTo(o2);
+        Comparator<TKey> comparator = OrderedEnumerableIterator.naturalOrder();
         if (this instanceof OrderedEnumerableIterator) {
-            OrderedEnumerableIterator<TSource, TKey> source = (OrderedEnumerableIterator<TSource, TKey>) this;
-            return source.createOrderedEnumerable(keySelector, comparator, false);
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparing(keySelector, comparator, false));
         } else {
             return orderBy(keySelector);
         }
@@ -1301,8 +1852,8 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey extends Comparable> IEnumerable<TSource> orderBy(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        Comparator<TKey> comparator = (o1, o2) -> o1.compareTo(o2);
-        return new OrderedEnumerableIterator<>(this, keySelector, comparator, false);
+        Comparator<TKey> comparator = OrderedEnumerableIterator.naturalOrder();
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparing(keySelector, comparator, false));
     }
 
     /**
@@ -1317,10 +1868,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey extends Comparable> IEnumerable<TSource> thenByDescending(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        Comparator<TKey> comparator = (o1, o2) -> o1.compareTo(o2);
+        Comparator<TKey> comparator = OrderedEnumerableIterator.naturalOrder();
         if (this instanceof OrderedEnumerableIterator) {
-            OrderedEnumerableIterator<TSource, TKey> source = (OrderedEnumerableIterator<TSource, TKey>) this;
-            return source.createOrderedEnumerable(keySelector, comparator, true);
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparing(keySelector, comparator, true));
         } else {
             return orderByDescending(keySelector);
         }
@@ -1338,10 +1889,273 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey extends Comparable> IEnumerable<TSource> orderByDescending(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        Comparator<TKey> comparator = (o1, o2) -> o1.compareTo(o2);
-        return new OrderedEnumerableIterator<>(this, keySelector, comparator, true);
+        Comparator<TKey> comparator = OrderedEnumerableIterator.naturalOrder();
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparing(keySelector, comparator, true));
     }
 
+    /**
+     * Sorts the elements of a sequence in ascending order according to an int key,
+     * without boxing the keys.
+     *
+     * @param keySelector A function to extract an int key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByInt(final ToIntFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingInt(keySelector, false));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in ascending order
+     * according to an int key, without boxing the keys.
+     *
+     * @param keySelector A function to extract an int key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByInt(final ToIntFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingInt(keySelector, false));
+        } else {
+            return orderByInt(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to an int key,
+     * without boxing the keys.
+     *
+     * @param keySelector A function to extract an int key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByDescendingInt(final ToIntFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingInt(keySelector, true));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in descending order
+     * according to an int key, without boxing the keys.
+     *
+     * @param keySelector A function to extract an int key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByDescendingInt(final ToIntFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingInt(keySelector, true));
+        } else {
+            return orderByDescendingInt(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a long key,
+     * without boxing the keys.
+     *
+     * @param keySelector A function to extract a long key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByLong(final ToLongFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingLong(keySelector, false));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in ascending order
+     * according to a long key, without boxing the keys.
+     *
+     * @param keySelector A function to extract a long key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByLong(final ToLongFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingLong(keySelector, false));
+        } else {
+            return orderByLong(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a long key,
+     * without boxing the keys.
+     *
+     * @param keySelector A function to extract a long key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByDescendingLong(final ToLongFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingLong(keySelector, true));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in descending order
+     * according to a long key, without boxing the keys.
+     *
+     * @param keySelector A function to extract a long key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByDescendingLong(final ToLongFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingLong(keySelector, true));
+        } else {
+            return orderByDescendingLong(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a double key,
+     * without boxing the keys. The keys are compared with Double.compare.
+     *
+     * @param keySelector A function to extract a double key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByDouble(final ToDoubleFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingDouble(keySelector, false));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in ascending order
+     * according to a double key, without boxing the keys. The keys are compared with Double.compare.
+     *
+     * @param keySelector A function to extract a double key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByDouble(final ToDoubleFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingDouble(keySelector, false));
+        } else {
+            return orderByDouble(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a double key,
+     * without boxing the keys. The keys are compared with Double.compare.
+     *
+     * @param keySelector A function to extract a double key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByDescendingDouble(final ToDoubleFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingDouble(keySelector, true));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in descending order
+     * according to a double key, without boxing the keys. The keys are compared with Double.compare.
+     *
+     * @param keySelector A function to extract a double key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByDescendingDouble(final ToDoubleFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingDouble(keySelector, true));
+        } else {
+            return orderByDescendingDouble(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a String key,
+     * without boxing the keys. Null keys sort first.
+     *
+     * @param keySelector A function to extract a String key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByString(final Function<TSource, String> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingString(keySelector, false));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in ascending order
+     * according to a String key, without boxing the keys. Null keys sort first.
+     *
+     * @param keySelector A function to extract a String key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in ascending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByString(final Function<TSource, String> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingString(keySelector, false));
+        } else {
+            return orderByString(keySelector);
+        }
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a String key,
+     * without boxing the keys. Null keys sort last.
+     *
+     * @param keySelector A function to extract a String key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> orderByDescendingString(final Function<TSource, String> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return new OrderedEnumerableIterator<>(this, OrderedEnumerableIterator.comparingString(keySelector, true));
+    }
+
+    /**
+     * Performs a subsequent ordering of the elements in a sequence in descending order
+     * according to a String key, without boxing the keys. Null keys sort last.
+     *
+     * @param keySelector A function to extract a String key from an element.
+     * @return An IEnumerable&lt;TSource&gt; whose elements are sorted in descending order according to a key.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IEnumerable<TSource> thenByDescendingString(final Function<TSource, String> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        if (this instanceof OrderedEnumerableIterator) {
+            OrderedEnumerableIterator<TSource> source = (OrderedEnumerableIterator<TSource>) this;
+            return source.createOrderedEnumerable(OrderedEnumerableIterator.comparingString(keySelector, true));
+        } else {
+            return orderByDescendingString(keySelector);
+        }
+    }
 
     /**
      * Creates an array from an IEnumerable&lt;TSource&gt;.
@@ -1353,8 +2167,13 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default TSource[] toArray(Class<TSource> toType) {
         if (toType == null) throw new IllegalArgumentException("toType is null.");
 
-        TSource[] r = (TSource[]) Array.newInstance(toType, this.count());
-        return this.toList().toArray(r);
+        if (this instanceof Collection) {
+            final Collection<TSource> collection = (Collection<TSource>) this;
+            return collection.toArray((TSource[]) Array.newInstance(toType, collection.size()));
+        }
+
+        final List<TSource> list = this.toList();
+        return list.toArray((TSource[]) Array.newInstance(toType, list.size()));
     }
 
     /**
@@ -1369,7 +2188,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default <TKey> Dictionary<TKey, TSource> toDictionary(final Function<TSource, TKey> keySelector) {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
 
-        Dictionary<TKey, TSource> allItems = new Dictionary<>();
+        Dictionary<TKey, TSource> allItems = new Dictionary<>((this instanceof ICollection) ? ((ICollection<TSource>) this).size() : 0);
         for (TSource element : this) {
             allItems.put(keySelector.apply(element), element);
         }
@@ -1392,7 +2211,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
         if (elementSelector == null) throw new IllegalArgumentException("elementSelector is null.");
 
-        Dictionary<TKey, TElement> allItems = new Dictionary<>();
+        Dictionary<TKey, TElement> allItems = new Dictionary<>((this instanceof ICollection) ? ((ICollection<TSource>) this).size() : 0);
 
         for (TSource element : this) {
             allItems.put(keySelector.apply(element), elementSelector.apply(element));
@@ -1401,6 +2220,78 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return allItems;
     }
 
+    /**
+     * Creates an IntDictionary&lt;TSource&gt; from an IEnumerable&lt;TSource&gt; according to a specified
+     * key selector function; the int keys are stored without boxing.
+     *
+     * @param keySelector A function to extract a key from each element.
+     * @return An IntDictionary&lt;TSource&gt; that contains keys and values.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default IntDictionary<TSource> toIntDictionary(final ToIntFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return toIntDictionary(keySelector, Function.identity());
+    }
+
+    /**
+     * Creates an IntDictionary&lt;TElement&gt; from an IEnumerable&lt;TSource&gt; according to specified
+     * key and element selector functions; the int keys are stored without boxing.
+     *
+     * @param keySelector     A function to extract a key from each element.
+     * @param elementSelector A transform function to produce a result element value from each element.
+     * @param <TElement>      The type of the value returned by elementSelector.
+     * @return An IntDictionary&lt;TElement&gt; that contains values of type TElement selected from the input sequence.
+     * @throws IllegalArgumentException keySelector or elementSelector is null.-or-elementSelector produces a value that is null.
+     */
+    default <TElement> IntDictionary<TElement> toIntDictionary(final ToIntFunction<TSource> keySelector, final Function<TSource, TElement> elementSelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+        if (elementSelector == null) throw new IllegalArgumentException("elementSelector is null.");
+
+        IntDictionary<TElement> allItems = new IntDictionary<>((this instanceof ICollection) ? ((ICollection<TSource>) this).size() : 0);
+        for (TSource element : this) {
+            allItems.put(keySelector.applyAsInt(element), elementSelector.apply(element));
+        }
+
+        return allItems;
+    }
+
+    /**
+     * Creates an LongDictionary&lt;TSource&gt; from an IEnumerable&lt;TSource&gt; according to a specified
+     * key selector function; the long keys are stored without boxing.
+     *
+     * @param keySelector A function to extract a key from each element.
+     * @return An LongDictionary&lt;TSource&gt; that contains keys and values.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default LongDictionary<TSource> toLongDictionary(final ToLongFunction<TSource> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return toLongDictionary(keySelector, Function.identity());
+    }
+
+    /**
+     * Creates an LongDictionary&lt;TElement&gt; from an IEnumerable&lt;TSource&gt; according to specified
+     * key and element selector functions; the long keys are stored without boxing.
+     *
+     * @param keySelector     A function to extract a key from each element.
+     * @param elementSelector A transform function to produce a result element value from each element.
+     * @param <TElement>      The type of the value returned by elementSelector.
+     * @return An LongDictionary&lt;TElement&gt; that contains values of type TElement selected from the input sequence.
+     * @throws IllegalArgumentException keySelector or elementSelector is null.-or-elementSelector produces a value that is null.
+     */
+    default <TElement> LongDictionary<TElement> toLongDictionary(final ToLongFunction<TSource> keySelector, final Function<TSource, TElement> elementSelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+        if (elementSelector == null) throw new IllegalArgumentException("elementSelector is null.");
+
+        LongDictionary<TElement> allItems = new LongDictionary<>((this instanceof ICollection) ? ((ICollection<TSource>) this).size() : 0);
+        for (TSource element : this) {
+            allItems.put(keySelector.applyAsLong(element), elementSelector.apply(element));
+        }
+
+        return allItems;
+    }
+
     /**
      * Creates a List&lt;TSource&gt; from an IEnumerable&lt;TSource&gt;.
      *
@@ -1410,6 +2301,39 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return new List<>(this);
     }
 
+    /**
+     * Creates a Lookup&lt;TKey, TElement&gt; from an IEnumerable&lt;T&gt;
+     * according to a specified key selector function.
+     *
+     * @param keySelector A function to extract a key from each element.
+     * @param <TKey>      The type of the key returned by keySelector.
+     * @return A Lookup&lt;TKey, TSource&gt; that contains keys and values.
+     * @throws IllegalArgumentException keySelector is null.
+     */
+    default <TKey> Lookup<TKey, TSource> toLookup(final Function<TSource, TKey> keySelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+
+        return Lookup.create(this, keySelector, Function.identity());
+    }
+
+    /**
+     * Creates a Lookup&lt;TKey, TElement&gt; from an IEnumerable&lt;T&gt;
+     * according to specified key selector and element selector functions.
+     *
+     * @param keySelector     A function to extract a key from each element.
+     * @param elementSelector A transform function to produce a result element value from each element.
+     * @param <TKey>          The type of the key returned by keySelector.
+     * @param <TElement>      The type of the value returned by elementSelector.
+     * @return A Lookup&lt;TKey, TElement&gt; that contains values of type TElement selected from the input sequence.
+     * @throws IllegalArgumentException keySelector or elementSelector is null.
+     */
+    default <TKey, TElement> Lookup<TKey, TElement> toLookup(final Function<TSource, TKey> keySelector, final Function<TSource, TElement> elementSelector) throws IllegalArgumentException {
+        if (keySelector == null) throw new IllegalArgumentException("keySelector is null.");
+        if (elementSelector == null) throw new IllegalArgumentException("elementSelector is null.");
+
+        return Lookup.create(this, keySelector, elementSelector);
+    }
+
     /**
      * ﻿Produces the set union of two sequences by using the default equality comparer.
      *
@@ -1456,18 +2380,23 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     default IEnumerable<TSource> where(final BiPredicate<TSource, Integer> predicate) throws IllegalArgumentException {
         if (predicate == null) throw new IllegalArgumentException("predicate is null.");
 
-        return () -> {
-            List<TSource> allItems = new List<>();
-            int index = -1;
-            for (TSource element : this) {
-                index = Math.addExact(index, 1);
-                if (predicate.test(element, index)) {
-                    allItems.add(element);
-                }
-            }
+        return where((IndexedPredicate<TSource>) predicate::test);
+    }
 
-            return allItems.iterator();
-        };
+    /**
+     * ﻿Filters a sequence of values based on a predicate.
+     *
+     * @param predicate ﻿A function to test each source element for a condition; the second parameter
+     *                  of the function represents the index of the source element.
+     * @return ﻿An IEnumerable&lt;TSource&gt; that contains elements from
+     * ﻿the input sequence that satisfy the condition.
+     * @throws IllegalArgumentException predicate is null.
+     * @throws ArithmeticException      ﻿The number of elements in source is larger than Integer.MaxValue.
+     */
+    default IEnumerable<TSource> where(final IndexedPredicate<TSource> predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return new IndexedWhereEnumerableIterator<>(this, predicate);
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.github.jlinqer.linq;
+
+/**
+ * Represents a collection of objects that have a common key.
+ *
+ * @param <TKey>     The type of the key of the IGrouping&lt;TKey, TElement&gt;.
+ * @param <TElement> The type of the values in the IGrouping&lt;TKey, TElement&gt;.
+ */
+public interface IGrouping<TKey, TElement> extends IEnumerable<TElement> {
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Gets the key of the IGrouping&lt;TKey, TElement&gt;.
+     *
+     * @return The key of the IGrouping&lt;TKey, TElement&gt;.
+     */
+    TKey getKey();
+}
@@ -0,0 +1,30 @@
+package com.github.jlinqer.linq;
+
+/**
+ * An ICollection&lt;TSource&gt; whose elements can be read by position in constant time.
+ * Operators such as elementAt(), last(), reverse(), skip() and take() use get(index) instead of walking the sequence.
+ *
+ * @param <TSource> The type of the elements of the sequence.
+ */
+public interface IList<TSource> extends ICollection<TSource> {
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Returns the element at the specified position in the sequence.
+     *
+     * @param index The zero-based index of the element to retrieve.
+     * @return The element at the specified position in the sequence.
+     * @throws IndexOutOfBoundsException index is less than 0 or greater than or equal to size().
+     */
+    TSource get(int index);
+
+    /**
+     * Tells whether get(index) runs in constant time. Operators take their index-based paths only when it does
+     * and enumerate the list otherwise, so a list backed by linked nodes is never read in quadratic time.
+     *
+     * @return true if get(index) runs in constant time; otherwise, false.
+     */
+    default boolean isRandomAccess() {
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A predicate over an element and its position in the sequence, with the index passed as a primitive int.
+ * Since it is also a BiPredicate&lt;TSource, Integer&gt;, where((x, i) -&gt; ...) resolves to the overload
+ * taking it and never boxes the index.
+ */
+@FunctionalInterface
+public interface IndexedPredicate<TSource> extends BiPredicate<TSource, Integer> {
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface BiPredicate ---------------------
+
+    @Override
+    default boolean test(TSource source, Integer index) {
+        return test(source, index.intValue());
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Evaluates this predicate on an element and its index.
+     *
+     * @param source The element.
+     * @param index  The zero-based index of the element in the sequence.
+     * @return Whether the element satisfies the predicate.
+     */
+    boolean test(TSource source, int index);
+}
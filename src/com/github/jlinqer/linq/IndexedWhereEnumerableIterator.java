@@ -0,0 +1,73 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily filters a sequence with a predicate that also receives the element's index.
+ */
+class IndexedWhereEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final IndexedPredicate<TSource> predicate;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public IndexedWhereEnumerableIterator(IEnumerable<TSource> iterable, IndexedPredicate<TSource> predicate) {
+        this.iterable = iterable;
+        this.predicate = predicate;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return new IndexedWhereIterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Where", "indexed", QueryPlan.of(iterable));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class IndexedWhereIterator implements Iterator<TSource> {
+        private final Iterator<TSource> iterator = iterable.iterator();
+        private int index = -1;
+        private boolean hasUpdated = false;
+        private boolean hasItem = false;
+        private TSource nextItem;
+
+        @Override
+        public boolean hasNext() {
+            if (hasUpdated) return hasItem;
+
+            hasUpdated = true;
+            while (iterator.hasNext()) {
+                nextItem = iterator.next();
+                index = Math.addExact(index, 1);
+                if (predicate.test(nextItem, index)) return hasItem = true;
+            }
+
+            nextItem = null;
+            return hasItem = false;
+        }
+
+        @Override
+        public TSource next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            hasUpdated = false;
+            TSource item = nextItem;
+            nextItem = null;
+            return item;
+        }
+    }
+}
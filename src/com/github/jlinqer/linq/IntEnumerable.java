@@ -0,0 +1,339 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.IntList;
+import com.github.jlinqer.collections.IntSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * A sequence of int values that stay unboxed from one operator to the next.
+ * Call boxed() to continue with the IEnumerable&lt;Integer&gt; operators.
+ */
+@FunctionalInterface
+public interface IntEnumerable extends Iterable<Integer> {
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a sequence over the given values. The array is read in place, not copied.
+     *
+     * @param values The elements of the sequence.
+     * @return An IntEnumerable that contains values.
+     * @throws IllegalArgumentException values is null.
+     */
+    static IntEnumerable of(final int... values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException("values is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= values.length) throw new NoSuchElementException();
+                return values[index++];
+            }
+        };
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    PrimitiveIterator.OfInt iterator();
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Computes the average of the sequence.
+     *
+     * @return The average of the sequence of values.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default double average() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        long sum = 0;
+        long count = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+            count++;
+        }
+        return sum / (double) count;
+    }
+
+    /**
+     * Returns the sequence as an IEnumerable&lt;Integer&gt;, boxing each element as it is enumerated.
+     *
+     * @return An IEnumerable&lt;Integer&gt; over the same elements.
+     */
+    default IEnumerable<Integer> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     *
+     * @return The number of elements in the sequence.
+     * @throws ArithmeticException The number of elements is larger than Integer.MaxValue.
+     */
+    default int count() throws ArithmeticException {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextInt();
+            count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    /**
+     * Returns distinct elements from the sequence, in order of first occurrence.
+     *
+     * @return An IntEnumerable that contains distinct elements from the sequence.
+     */
+    default IntEnumerable distinct() {
+        return () -> {
+            final IntSet seen = new IntSet();
+            return where(seen::add).iterator();
+        };
+    }
+
+    /**
+     * Returns the maximum value in the sequence.
+     *
+     * @return The maximum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default int max() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        int max = iterator.nextInt();
+        while (iterator.hasNext()) {
+            final int item = iterator.nextInt();
+            if (Integer.compare(item, max) > 0) max = item;
+        }
+        return max;
+    }
+
+    /**
+     * Returns the minimum value in the sequence.
+     *
+     * @return The minimum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default int min() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        int min = iterator.nextInt();
+        while (iterator.hasNext()) {
+            final int item = iterator.nextInt();
+            if (Integer.compare(item, min) < 0) min = item;
+        }
+        return min;
+    }
+
+    /**
+     * Sorts the elements of the sequence in ascending order.
+     *
+     * @return An IntEnumerable whose elements are sorted.
+     */
+    default IntEnumerable orderBy() {
+        return () -> {
+            final int[] values = toArray();
+            Arrays.sort(values);
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Sorts the elements of the sequence in descending order.
+     *
+     * @return An IntEnumerable whose elements are sorted in descending order.
+     */
+    default IntEnumerable orderByDescending() {
+        return () -> {
+            final int[] values = toArray();
+            Arrays.sort(values);
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                final int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Projects each element into a new int value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return An IntEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default IntEnumerable select(final IntUnaryOperator selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private final PrimitiveIterator.OfInt iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return selector.applyAsInt(iterator.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into a long value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A LongEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default LongEnumerable selectLong(final IntToLongFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private final PrimitiveIterator.OfInt iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return selector.applyAsLong(iterator.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into a double value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A DoubleEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default DoubleEnumerable selectDouble(final IntToDoubleFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final PrimitiveIterator.OfInt iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return selector.applyAsDouble(iterator.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Computes the sum of the sequence.
+     *
+     * @return The sum of the values in the sequence.
+     * @throws ArithmeticException The sum is larger than Integer.MaxValue.
+     */
+    default int sum() throws ArithmeticException {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum = Math.addExact(sum, iterator.nextInt());
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array from the sequence.
+     *
+     * @return An array that contains the elements of the sequence.
+     */
+    default int[] toArray() {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        int[] values = new int[16];
+        int count = 0;
+        while (iterator.hasNext()) {
+            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+            values[count++] = iterator.nextInt();
+        }
+        return (count == values.length) ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Creates a IntList from the sequence.
+     *
+     * @return An IntList that contains the elements of the sequence.
+     */
+    default IntList toList() {
+        final IntList list = new IntList();
+        list.addAll(this);
+        return list;
+    }
+
+    /**
+     * Creates a IntSet from the sequence.
+     *
+     * @return An IntSet that contains the distinct elements of the sequence.
+     */
+    default IntSet toSet() {
+        final IntSet set = new IntSet();
+        final PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) set.add(iterator.nextInt());
+        return set;
+    }
+
+    /**
+     * Filters the sequence based on a predicate.
+     *
+     * @param predicate A function to test each element for a condition.
+     * @return An IntEnumerable that contains elements from the sequence that satisfy the condition.
+     * @throws IllegalArgumentException predicate is null.
+     */
+    default IntEnumerable where(final IntPredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private final PrimitiveIterator.OfInt iterator = iterator();
+            private boolean hasItem = false;
+            private int item;
+
+            @Override
+            public boolean hasNext() {
+                while (!hasItem && iterator.hasNext()) {
+                    item = iterator.nextInt();
+                    hasItem = predicate.test(item);
+                }
+                return hasItem;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) throw new NoSuchElementException();
+                hasItem = false;
+                return item;
+            }
+        };
+    }
+}
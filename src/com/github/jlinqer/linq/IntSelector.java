@@ -0,0 +1,22 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A selector that produces a primitive int key. Since it is both a Function&lt;TSource, Integer&gt; and a
+ * ToIntFunction&lt;TSource&gt;, overloads taking it are the most specific match for a lambda, so
+ * existing calls such as sumInt(x -&gt; ...) pick the unboxed implementation without a cast.
+ */
+@FunctionalInterface
+public interface IntSelector<TSource> extends Function<TSource, Integer>, ToIntFunction<TSource> {
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Function ---------------------
+
+    @Override
+    default Integer apply(TSource source) {
+        return applyAsInt(source);
+    }
+}
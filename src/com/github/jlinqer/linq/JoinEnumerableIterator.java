@@ -0,0 +1,79 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Hash join: the inner sequence is indexed into a Lookup once, then the outer sequence is streamed against that index.
+ */
+class JoinEnumerableIterator<TOuter, TInner, TKey, TResult> implements IEnumerable<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Function<TOuter, TKey> outerKeySelector;
+    private final Function<TInner, TKey> innerKeySelector;
+    private final BiFunction<TOuter, TInner, TResult> resultSelector;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public JoinEnumerableIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Function<TOuter, TKey> outerKeySelector, Function<TInner, TKey> innerKeySelector, BiFunction<TOuter, TInner, TResult> resultSelector) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TResult> iterator() {
+        return new JoinIterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Join", "", QueryPlan.of(outer), QueryPlan.of(inner));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class JoinIterator implements Iterator<TResult> {
+        private Iterator<TOuter> outerIterator;
+        private Lookup<TKey, TInner> lookup;
+        private TOuter outerItem;
+        private Grouping<TKey, TInner> matches;
+        private int matchIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (lookup == null) {
+                lookup = Lookup.create(inner, innerKeySelector, Function.identity());
+                outerIterator = outer.iterator();
+            }
+
+            while (matches == null || matchIndex >= matches.size()) {
+                if (!outerIterator.hasNext()) return false;
+
+                outerItem = outerIterator.next();
+                matches = lookup.getGrouping(outerKeySelector.apply(outerItem), false);
+                matchIndex = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public TResult next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return resultSelector.apply(outerItem, matches.get(matchIndex++));
+        }
+    }
+}
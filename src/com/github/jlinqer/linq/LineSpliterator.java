@@ -0,0 +1,116 @@
+package com.github.jlinqer.linq;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits the mapped regions of a text file at line boundaries: first by whole regions, then inside the last
+ * region at the line break nearest its middle, so parallel streams divide a file without decoding it.
+ * Sizes are estimated from the average line length sampled when the file was mapped.
+ */
+class LineSpliterator<TResult> implements Spliterator<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final int MIN_SPLIT_BYTES = 1 << 16;
+
+    private final ByteBuffer[] regions;
+    private final int[] fences;
+    private final MappedLines.LineDecoder<TResult> decoder;
+    private final double averageLineLength;
+    private final int lastRegion;
+    private final int fence;
+    private int region;
+    private int position;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    LineSpliterator(ByteBuffer[] regions, int[] fences, MappedLines.LineDecoder<TResult> decoder, double averageLineLength) {
+        this(regions, fences, decoder, averageLineLength, 0, 0, regions.length - 1, regions.length == 0 ? 0 : fences[regions.length - 1]);
+    }
+
+    private LineSpliterator(ByteBuffer[] regions, int[] fences, MappedLines.LineDecoder<TResult> decoder, double averageLineLength,
+                            int region, int position, int lastRegion, int fence) {
+        this.regions = regions;
+        this.fences = fences;
+        this.decoder = decoder;
+        this.averageLineLength = averageLineLength;
+        this.region = region;
+        this.position = position;
+        this.lastRegion = lastRegion;
+        this.fence = fence;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Spliterator ---------------------
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TResult> action) {
+        if (action == null) throw new NullPointerException();
+
+        while (region <= lastRegion) {
+            final int limit = limitOf(region);
+            if (position < limit) {
+                final ByteBuffer buffer = regions[region];
+                int lineBreak = position;
+                while (lineBreak < limit && buffer.get(lineBreak) != '\n') lineBreak++;
+
+                int end = lineBreak;
+                if (lineBreak < limit && end > position && buffer.get(end - 1) == '\r') end--;
+
+                TResult line = decoder.decode(buffer, position, end);
+                position = (lineBreak < limit) ? lineBreak + 1 : limit;
+                action.accept(line);
+                return true;
+            }
+            if (region == lastRegion) break;
+
+            region++;
+            position = 0;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<TResult> trySplit() {
+        if (region < lastRegion) {
+            int middle = (region + lastRegion) >>> 1;
+            Spliterator<TResult> prefix = new LineSpliterator<>(regions, fences, decoder, averageLineLength, region, position, middle, fences[middle]);
+            region = middle + 1;
+            position = 0;
+            return prefix;
+        }
+        if (region > lastRegion || fence - position < MIN_SPLIT_BYTES) return null;
+
+        // split just after the first line break past the middle, so neither half starts mid-line
+        final ByteBuffer buffer = regions[region];
+        int middle = (position + fence) >>> 1;
+        while (middle < fence && buffer.get(middle++) != '\n') {
+        }
+        if (middle >= fence) return null;
+
+        Spliterator<TResult> prefix = new LineSpliterator<>(regions, fences, decoder, averageLineLength, region, position, region, middle);
+        position = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long bytes = 0;
+        for (int i = region; i <= lastRegion; i++) bytes += limitOf(i) - (i == region ? position : 0);
+        return (long) Math.ceil(bytes / averageLineLength);
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    private int limitOf(int index) {
+        return index == lastRegion ? fence : fences[index];
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for index-backed views that keep the size and random access of their source.
+ */
+abstract class ListEnumerableIterator<TSource> implements IList<TSource> {
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * @return true if source is an IList whose get(index) runs in constant time.
+     */
+    static boolean isRandomAccess(Iterable<?> source) {
+        return source instanceof IList && ((IList<?>) source).isRandomAccess();
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return new Iterator<TSource>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public TSource next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(index++);
+            }
+        };
+    }
+}
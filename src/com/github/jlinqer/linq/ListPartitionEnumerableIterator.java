@@ -0,0 +1,65 @@
+package com.github.jlinqer.linq;
+
+/**
+ * A window over a random-access source that jumps straight to its offset instead of walking to it.
+ */
+class ListPartitionEnumerableIterator<TSource> extends ListEnumerableIterator<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IList<TSource> list;
+    private final long skip;
+    private final long take;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    /**
+     * @param list the source sequence.
+     * @param skip the number of leading elements to bypass.
+     * @param take the maximum number of elements to return, or -1 for no limit.
+     */
+    public ListPartitionEnumerableIterator(IList<TSource> list, long skip, long take) {
+        this.list = list;
+        this.skip = Math.max(0, skip);
+        this.take = take;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public int size() {
+        long remaining = Math.max(0, list.size() - skip);
+        return (int) ((take < 0) ? remaining : Math.min(remaining, take));
+    }
+
+    @Override
+    public TSource get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+
+        return list.get((int) (skip + index));
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return PartitionEnumerableIterator.explain(list, skip, take);
+    }
+
+    @Override
+    public IEnumerable<TSource> skip(final int count) {
+        if (count <= 0) return this;
+
+        final long remaining = (take < 0) ? -1 : Math.max(0, take - count);
+        return new ListPartitionEnumerableIterator<>(list, skip + count, remaining);
+    }
+
+    @Override
+    public IEnumerable<TSource> take(final long count) {
+        final long limit = (take < 0) ? Math.max(0, count) : Math.min(take, Math.max(0, count));
+        return new ListPartitionEnumerableIterator<>(list, skip, limit);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.jlinqer.linq;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits an IList&lt;TSource&gt; by index range, so parallel streams divide it evenly and know every part's size.
+ */
+class ListSpliterator<TSource> implements Spliterator<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IList<TSource> list;
+    private int index;
+    private final int fence;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    ListSpliterator(IList<TSource> list, int origin, int fence) {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Spliterator ---------------------
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null) throw new NullPointerException();
+        if (index >= fence) return false;
+
+        action.accept(list.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null) throw new NullPointerException();
+
+        int fence = this.fence;
+        for (int i = index; i < fence; i++) action.accept(list.get(i));
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) return null;
+
+        Spliterator<TSource> prefix = new ListSpliterator<>(list, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
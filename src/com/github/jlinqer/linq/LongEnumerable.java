@@ -0,0 +1,340 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.LongList;
+import com.github.jlinqer.collections.LongSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * A sequence of long values that stay unboxed from one operator to the next.
+ * Call boxed() to continue with the IEnumerable&lt;Long&gt; operators.
+ */
+@FunctionalInterface
+public interface LongEnumerable extends Iterable<Long> {
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a sequence over the given values. The array is read in place, not copied.
+     *
+     * @param values The elements of the sequence.
+     * @return A LongEnumerable that contains values.
+     * @throws IllegalArgumentException values is null.
+     */
+    static LongEnumerable of(final long... values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException("values is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= values.length) throw new NoSuchElementException();
+                return values[index++];
+            }
+        };
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    PrimitiveIterator.OfLong iterator();
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Computes the average of the sequence.
+     *
+     * @return The average of the sequence of values.
+     * @throws UnsupportedOperationException source contains no elements.
+     * @throws ArithmeticException           The sum of the elements is larger than Long.MaxValue.
+     */
+    default double average() throws UnsupportedOperationException, ArithmeticException {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        long sum = 0;
+        long count = 0;
+        while (iterator.hasNext()) {
+            sum = Math.addExact(sum, iterator.nextLong());
+            count++;
+        }
+        return sum / (double) count;
+    }
+
+    /**
+     * Returns the sequence as an IEnumerable&lt;Long&gt;, boxing each element as it is enumerated.
+     *
+     * @return An IEnumerable&lt;Long&gt; over the same elements.
+     */
+    default IEnumerable<Long> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     *
+     * @return The number of elements in the sequence.
+     * @throws ArithmeticException The number of elements is larger than Integer.MaxValue.
+     */
+    default int count() throws ArithmeticException {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    /**
+     * Returns distinct elements from the sequence, in order of first occurrence.
+     *
+     * @return A LongEnumerable that contains distinct elements from the sequence.
+     */
+    default LongEnumerable distinct() {
+        return () -> {
+            final LongSet seen = new LongSet();
+            return where(seen::add).iterator();
+        };
+    }
+
+    /**
+     * Returns the maximum value in the sequence.
+     *
+     * @return The maximum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default long max() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        long max = iterator.nextLong();
+        while (iterator.hasNext()) {
+            final long item = iterator.nextLong();
+            if (Long.compare(item, max) > 0) max = item;
+        }
+        return max;
+    }
+
+    /**
+     * Returns the minimum value in the sequence.
+     *
+     * @return The minimum value in the sequence.
+     * @throws UnsupportedOperationException source contains no elements.
+     */
+    default long min() throws UnsupportedOperationException {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        if (!iterator.hasNext()) throw new UnsupportedOperationException("source contains no elements.");
+
+        long min = iterator.nextLong();
+        while (iterator.hasNext()) {
+            final long item = iterator.nextLong();
+            if (Long.compare(item, min) < 0) min = item;
+        }
+        return min;
+    }
+
+    /**
+     * Sorts the elements of the sequence in ascending order.
+     *
+     * @return A LongEnumerable whose elements are sorted.
+     */
+    default LongEnumerable orderBy() {
+        return () -> {
+            final long[] values = toArray();
+            Arrays.sort(values);
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Sorts the elements of the sequence in descending order.
+     *
+     * @return A LongEnumerable whose elements are sorted in descending order.
+     */
+    default LongEnumerable orderByDescending() {
+        return () -> {
+            final long[] values = toArray();
+            Arrays.sort(values);
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                final long temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+            return of(values).iterator();
+        };
+    }
+
+    /**
+     * Projects each element into a new long value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A LongEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default LongEnumerable select(final LongUnaryOperator selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private final PrimitiveIterator.OfLong iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return selector.applyAsLong(iterator.nextLong());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into an int value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return An IntEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default IntEnumerable selectInt(final LongToIntFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfInt() {
+            private final PrimitiveIterator.OfLong iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return selector.applyAsInt(iterator.nextLong());
+            }
+        };
+    }
+
+    /**
+     * Projects each element into a double value.
+     *
+     * @param selector A transform function to apply to each element.
+     * @return A DoubleEnumerable whose elements are the result of invoking the transform function on each element.
+     * @throws IllegalArgumentException selector is null.
+     */
+    default DoubleEnumerable selectDouble(final LongToDoubleFunction selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return () -> new PrimitiveIterator.OfDouble() {
+            private final PrimitiveIterator.OfLong iterator = iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return selector.applyAsDouble(iterator.nextLong());
+            }
+        };
+    }
+
+    /**
+     * Computes the sum of the sequence.
+     *
+     * @return The sum of the values in the sequence.
+     * @throws ArithmeticException The sum is larger than Long.MaxValue.
+     */
+    default long sum() throws ArithmeticException {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum = Math.addExact(sum, iterator.nextLong());
+        }
+        return sum;
+    }
+
+    /**
+     * Creates an array from the sequence.
+     *
+     * @return An array that contains the elements of the sequence.
+     */
+    default long[] toArray() {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        long[] values = new long[16];
+        int count = 0;
+        while (iterator.hasNext()) {
+            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+            values[count++] = iterator.nextLong();
+        }
+        return (count == values.length) ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Creates a LongList from the sequence.
+     *
+     * @return A LongList that contains the elements of the sequence.
+     */
+    default LongList toList() {
+        final LongList list = new LongList();
+        list.addAll(this);
+        return list;
+    }
+
+    /**
+     * Creates a LongSet from the sequence.
+     *
+     * @return A LongSet that contains the distinct elements of the sequence.
+     */
+    default LongSet toSet() {
+        final LongSet set = new LongSet();
+        final PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) set.add(iterator.nextLong());
+        return set;
+    }
+
+    /**
+     * Filters the sequence based on a predicate.
+     *
+     * @param predicate A function to test each element for a condition.
+     * @return A LongEnumerable that contains elements from the sequence that satisfy the condition.
+     * @throws IllegalArgumentException predicate is null.
+     */
+    default LongEnumerable where(final LongPredicate predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return () -> new PrimitiveIterator.OfLong() {
+            private final PrimitiveIterator.OfLong iterator = iterator();
+            private boolean hasItem = false;
+            private long item;
+
+            @Override
+            public boolean hasNext() {
+                while (!hasItem && iterator.hasNext()) {
+                    item = iterator.nextLong();
+                    hasItem = predicate.test(item);
+                }
+                return hasItem;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                hasItem = false;
+                return item;
+            }
+        };
+    }
+}
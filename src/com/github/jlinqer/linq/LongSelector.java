@@ -0,0 +1,22 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A selector that produces a primitive long key. Since it is both a Function&lt;TSource, Long&gt; and a
+ * ToLongFunction&lt;TSource&gt;, overloads taking it are the most specific match for a lambda, so
+ * existing calls such as sumLong(x -&gt; ...) pick the unboxed implementation without a cast.
+ */
+@FunctionalInterface
+public interface LongSelector<TSource> extends Function<TSource, Long>, ToLongFunction<TSource> {
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Function ---------------------
+
+    @Override
+    default Long apply(TSource source) {
+        return applyAsLong(source);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Represents a collection of keys each mapped to one or more values.
+ * A Lookup&lt;TKey, TElement&gt; is built in a single pass over its source and is immutable afterwards,
+ * so it can be cached and probed by many queries. Groupings are enumerated in the order their keys were first seen.
+ *
+ * @param <TKey>     The type of the keys in the Lookup&lt;TKey, TElement&gt;.
+ * @param <TElement> The type of the elements of each IEnumerable&lt;TElement&gt; value in the Lookup&lt;TKey, TElement&gt;.
+ */
+public class Lookup<TKey, TElement> implements ICollection<IGrouping<TKey, TElement>> {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final IEnumerable<?> EMPTY = new ListEnumerableIterator<Object>() {
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public Object get(int index) {
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
+        }
+    };
+
+    private final Map<TKey, Grouping<TKey, TElement>> groupings = new LinkedHashMap<>();
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    private Lookup() {
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    static <TSource, TKey, TElement> Lookup<TKey, TElement> create(Iterable<TSource> source, Function<TSource, TKey> keySelector, Function<TSource, TElement> elementSelector) {
+        Lookup<TKey, TElement> lookup = new Lookup<>();
+        for (TSource item : source) {
+            lookup.getGrouping(keySelector.apply(item), true).add(elementSelector.apply(item));
+        }
+        return lookup;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface ICollection ---------------------
+
+    /**
+     * Gets the number of key/value collection pairs in the Lookup&lt;TKey, TElement&gt;.
+     *
+     * @return The number of key/value collection pairs in the Lookup&lt;TKey, TElement&gt;.
+     */
+    @Override
+    public int size() {
+        return groupings.size();
+    }
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<IGrouping<TKey, TElement>> iterator() {
+        final Iterator<Grouping<TKey, TElement>> iterator = groupings.values().iterator();
+        return new Iterator<IGrouping<TKey, TElement>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public IGrouping<TKey, TElement> next() {
+                return iterator.next();
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Determines whether a specified key is in the Lookup&lt;TKey, TElement&gt;.
+     *
+     * @param key The key to find in the Lookup&lt;TKey, TElement&gt;.
+     * @return true if key is in the Lookup&lt;TKey, TElement&gt;; otherwise, false.
+     */
+    public boolean contains(TKey key) {
+        return groupings.containsKey(key);
+    }
+
+    /**
+     * Gets the collection of values indexed by the specified key.
+     *
+     * @param key The key of the desired collection of values.
+     * @return The collection of values indexed by the specified key, or an empty sequence if the key is not found.
+     */
+    public IEnumerable<TElement> get(TKey key) {
+        Grouping<TKey, TElement> grouping = groupings.get(key);
+        return (grouping != null) ? grouping : (IEnumerable<TElement>) EMPTY;
+    }
+
+    Grouping<TKey, TElement> getGrouping(TKey key, boolean create) {
+        Grouping<TKey, TElement> grouping = groupings.get(key);
+        if (grouping == null && create) {
+            grouping = new Grouping<>(key);
+            groupings.put(key, grouping);
+        }
+        return grouping;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.Function;
+
+/**
+ * A projection over a sized source that keeps reporting the size of its source.
+ */
+class MapCollectionEnumerableIterator<TSource, TResult> extends MapEnumerableIterator<TSource, TResult> implements ICollection<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final ICollection<TSource> collection;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public MapCollectionEnumerableIterator(ICollection<TSource> collection, Function<TSource, TResult> projection) {
+        super(collection, projection);
+        this.collection = collection;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface ICollection ---------------------
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+}
@@ -20,6 +20,18 @@ class MapEnumerableIterator<TSource, TResult> implements IEnumerable<TResult> {
         this.projection = projection;
     }
 
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a projection that keeps the size and random access of its source where the source provides them.
+     */
+    static <TSource, TResult> IEnumerable<TResult> create(IEnumerable<TSource> source, Function<TSource, TResult> projection) {
+        if (ListEnumerableIterator.isRandomAccess(source)) return new MapListEnumerableIterator<>((IList<TSource>) source, projection);
+        if (source instanceof ICollection)
+            return new MapCollectionEnumerableIterator<>((ICollection<TSource>) source, projection);
+        return new MapEnumerableIterator<>(source, projection);
+    }
+
 // ------------------------ INTERFACE METHODS ------------------------
 
 
@@ -42,4 +54,35 @@ class MapEnumerableIterator<TSource, TResult> implements IEnumerable<TResult> {
             }
         };
     }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Counts the elements without buffering them, but still applies the projection to each one so that its
+     * side effects and exceptions are the same as when the sequence is enumerated.
+     */
+    @Override
+    public int count() throws ArithmeticException {
+        int count = 0;
+        for (TSource item : iterable) {
+            projection.apply(item);
+            count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    @Override
+    public long longCount() throws ArithmeticException {
+        long count = 0;
+        for (TSource item : iterable) {
+            projection.apply(item);
+            count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Select", "", QueryPlan.of(iterable));
+    }
 }
@@ -0,0 +1,58 @@
+package com.github.jlinqer.linq;
+
+import java.util.function.Function;
+
+/**
+ * A projection over a random-access source that projects only the elements that are actually read.
+ */
+class MapListEnumerableIterator<TSource, TResult> extends ListEnumerableIterator<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final Function<TSource, TResult> projection;
+    private final IList<TSource> list;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public MapListEnumerableIterator(IList<TSource> list, Function<TSource, TResult> projection) {
+        this.list = list;
+        this.projection = projection;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface IList ---------------------
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public TResult get(int index) {
+        return projection.apply(list.get(index));
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Counts the elements from the size of the source, but still projects each one so that the selector's
+     * side effects and exceptions are the same as when the sequence is enumerated.
+     */
+    @Override
+    public int count() {
+        final int size = list.size();
+        for (int i = 0; i < size; i++) projection.apply(list.get(i));
+        return size;
+    }
+
+    @Override
+    public long longCount() {
+        return count();
+    }
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Select", "", QueryPlan.of(list));
+    }
+}
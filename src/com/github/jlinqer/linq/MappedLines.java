@@ -0,0 +1,151 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * The lines of a text file, read through a read-only memory mapping instead of the heap. Each enumeration maps
+ * the file afresh in windows of at most regionSize bytes, each ending just after a line break, so files larger
+ * than a single mapping are supported and no line straddles two windows.
+ * <p>
+ * Lines are found by scanning for '\n' bytes, which is valid for any charset that encodes '\n' as that single
+ * byte, and only the lines that are enumerated are handed to the decoder. A "\r\n" line break is stripped whole.
+ */
+class MappedLines<TResult> implements IEnumerable<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    static final int DEFAULT_REGION_SIZE = 1 << 30;
+    private static final int SAMPLE_SIZE = 1 << 16;
+    private static final int MAX_PRESIZE = 1 << 20;
+
+    private final Path path;
+    private final Charset charset;
+    private final LineDecoder<TResult> decoder;
+    private final int regionSize;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    MappedLines(Path path, Charset charset, LineDecoder<TResult> decoder, int regionSize) {
+        this.path = path;
+        this.charset = charset;
+        this.decoder = decoder;
+        this.regionSize = regionSize;
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    static String decode(ByteBuffer buffer, int start, int end, Charset charset) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = buffer.get(start + i);
+        return new String(bytes, charset);
+    }
+
+    /**
+     * Returns the single byte that charset encodes character as.
+     *
+     * @throws IllegalArgumentException charset does not encode character as a single byte.
+     */
+    static byte singleByte(char character, Charset charset, String name) throws IllegalArgumentException {
+        byte[] encoded = charset.newEncoder().canEncode(character) ? String.valueOf(character).getBytes(charset) : new byte[0];
+        if (encoded.length != 1) throw new IllegalArgumentException(name + " is not a single byte in charset.");
+
+        return encoded[0];
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TResult> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<TResult> spliterator() {
+        final ArrayList<ByteBuffer> regions = new ArrayList<>();
+        final ArrayList<Integer> ends = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(regionSize, size - position);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                if (position + length < size) {
+                    // end the window after its last line break so that the next window starts on a new line
+                    int last = length - 1;
+                    while (last >= 0 && region.get(last) != '\n') last--;
+                    if (last < 0) throw new IOException("a line of " + path + " is longer than " + regionSize + " bytes.");
+                    length = last + 1;
+                }
+
+                regions.add(region);
+                ends.add(length);
+                position += length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final int[] fences = new int[ends.size()];
+        for (int i = 0; i < fences.length; i++) fences[i] = ends.get(i);
+
+        return new LineSpliterator<>(regions.toArray(new ByteBuffer[0]), fences, decoder, averageLineLength(regions, fences));
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Source", path.toString());
+    }
+
+    /**
+     * Presizes the list from the estimated line count, which is only sampled from the start of the file, so the
+     * presize is capped and any spare capacity is released once every line has been read.
+     */
+    @Override
+    public List<TResult> toList() {
+        final Spliterator<TResult> spliterator = spliterator();
+        final ArrayList<TResult> list = new ArrayList<>((int) Math.min(spliterator.estimateSize(), MAX_PRESIZE));
+        spliterator.forEachRemaining(list::add);
+        list.trimToSize();
+        return new List<>(list);
+    }
+
+    private static double averageLineLength(ArrayList<ByteBuffer> regions, int[] fences) {
+        if (regions.isEmpty()) return 1;
+
+        final ByteBuffer first = regions.get(0);
+        final int sample = Math.min(fences[0], SAMPLE_SIZE);
+        int lines = 0;
+        for (int i = 0; i < sample; i++) {
+            if (first.get(i) == '\n') lines++;
+        }
+        return (double) sample / Math.max(lines, 1);
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    /**
+     * Turns the bytes [start, end) of a mapped region into one element.
+     */
+    @FunctionalInterface
+    interface LineDecoder<TResult> {
+        TResult decode(ByteBuffer buffer, int start, int end);
+    }
+}
@@ -2,27 +2,64 @@ package com.github.jlinqer.linq;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Created by Keisuke Kato
  */
-class OrderedEnumerableIterator<TElement, TKey> implements IEnumerable<TElement> {
+class OrderedEnumerableIterator<TElement> implements IEnumerable<TElement> {
 // ------------------------------ FIELDS ------------------------------
 
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Comparable> NATURAL_ORDER = (o1, o2) -> o1.compareTo(o2);
+
     final IEnumerable<TElement> source;
-    OrderedEnumerableIterator<TElement, TKey> parent;
-    final Function<TElement, TKey> keySelector;
-    final Comparator<TKey> comparer;
-    final boolean descending;
+    final OrderedEnumerableIterator<TElement> parent;
+    final SorterFactory<TElement> sorterFactory;
 
 // --------------------------- CONSTRUCTORS ---------------------------
 
-    OrderedEnumerableIterator(IEnumerable<TElement> source, Function<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending) {
+    OrderedEnumerableIterator(IEnumerable<TElement> source, SorterFactory<TElement> sorterFactory) {
+        this(source, null, sorterFactory);
+    }
+
+    private OrderedEnumerableIterator(IEnumerable<TElement> source, OrderedEnumerableIterator<TElement> parent, SorterFactory<TElement> sorterFactory) {
         this.source = source;
-        this.parent = null;
-        this.keySelector = keySelector;
-        this.comparer = comparer;
-        this.descending = descending;
+        this.parent = parent;
+        this.sorterFactory = sorterFactory;
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * The ordering used by orderBy and thenBy; sorters recognise it and may sort its keys by radix instead.
+     */
+    @SuppressWarnings("unchecked")
+    static <TKey extends Comparable> Comparator<TKey> naturalOrder() {
+        return (Comparator<TKey>) (Comparator) NATURAL_ORDER;
+    }
+
+    static <TElement, TKey> SorterFactory<TElement> comparing(Function<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending) {
+        return next -> new EnumerableSorter<>(keySelector, comparer, descending, next);
+    }
+
+    static <TElement> SorterFactory<TElement> comparingInt(ToIntFunction<TElement> keySelector, boolean descending) {
+        return next -> new IntEnumerableSorter<>(keySelector, descending, next);
+    }
+
+    static <TElement> SorterFactory<TElement> comparingLong(ToLongFunction<TElement> keySelector, boolean descending) {
+        return next -> new LongEnumerableSorter<>(keySelector, descending, next);
+    }
+
+    static <TElement> SorterFactory<TElement> comparingDouble(ToDoubleFunction<TElement> keySelector, boolean descending) {
+        return next -> new DoubleEnumerableSorter<>(keySelector, descending, next);
+    }
+
+    static <TElement> SorterFactory<TElement> comparingString(Function<TElement, String> keySelector, boolean descending) {
+        return next -> new StringEnumerableSorter<>(keySelector, descending, next);
     }
 
 // ------------------------ INTERFACE METHODS ------------------------
@@ -32,57 +69,376 @@ class OrderedEnumerableIterator<TElement, TKey> implements IEnumerable<TElement>
 
     @Override
     public Iterator<TElement> iterator() {
-        java.util.Queue<TElement> queue = new ArrayDeque<>();
+        return new OrderedIterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    public OrderedEnumerableIterator<TElement> createOrderedEnumerable(SorterFactory<TElement> sorterFactory) {
+        return new OrderedEnumerableIterator<>(source, this, sorterFactory);
+    }
 
+    // all, any and count do not depend on the order of the elements, so they read the unsorted source; sums are
+    // left alone because whether an exact sum overflows, and how a double sum rounds, both do
+
+    @Override
+    public boolean all(final Predicate<TElement> predicate) throws IllegalArgumentException {
+        return source.all(predicate);
+    }
+
+    @Override
+    public boolean any() {
+        return source.any();
+    }
+
+    @Override
+    public boolean any(final Predicate<TElement> predicate) throws IllegalArgumentException {
+        return source.any(predicate);
+    }
+
+    @Override
+    public int count() throws ArithmeticException {
+        return source.count();
+    }
+
+    @Override
+    public int count(final Predicate<TElement> predicate) throws IllegalArgumentException, ArithmeticException {
+        return source.count(predicate);
+    }
+
+    @Override
+    public TElement elementAt(final int index) throws IndexOutOfBoundsException {
         Buffer<TElement> buffer = new Buffer<>(source);
-        if (buffer.count > 0) {
-            IEnumerableSorter<TElement> sorter = getEnumerableSorter(null);
-            int[] map = sorter.sort(buffer.items, buffer.count);
+        if (index < 0 || index >= buffer.count)
+            throw new IndexOutOfBoundsException("index is less than 0 or greater than or equal to the number of elements in source.");
 
-            for (int i = 0; i < buffer.count; i++) {
-                queue.add(buffer.items.get(map[i]));
-            }
+        return buffer.get(getEnumerableSorter(null).select(buffer, buffer.count, index));
+    }
 
-        }
-        return new Iterator<TElement>() {
-            @Override
-            public boolean hasNext() {
-                return queue.size() != 0;
-            }
+    @Override
+    public TElement elementAtOrDefault(final int index) {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        if (index < 0 || index >= buffer.count) return null;
 
-            @Override
-            public TElement next() {
-                return queue.remove();
-            }
-        };
+        return buffer.get(getEnumerableSorter(null).select(buffer, buffer.count, index));
     }
 
-// -------------------------- OTHER METHODS --------------------------
+    @Override
+    public TElement first() throws UnsupportedOperationException {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        if (buffer.count == 0) throw new UnsupportedOperationException("The source sequence is empty.");
 
-    public OrderedEnumerableIterator createOrderedEnumerable(Function keySelector, Comparator comparer, boolean descending) {
-        OrderedEnumerableIterator result = new OrderedEnumerableIterator<>(source, keySelector, comparer, descending);
-        result.parent = this;
-        return result;
+        return buffer.get(getEnumerableSorter(null).min(buffer, buffer.count));
     }
 
-    public IEnumerableSorter getEnumerableSorter(IEnumerableSorter next) {
-        IEnumerableSorter<TElement> sorter = new EnumerableSorter<>(keySelector, comparer, descending, next);
+    @Override
+    public TElement firstOrDefault() {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        if (buffer.count == 0) return null;
+
+        return buffer.get(getEnumerableSorter(null).min(buffer, buffer.count));
+    }
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("OrderBy", keys() == 1 ? "" : keys() + " keys", QueryPlan.of(source));
+    }
+
+    public IEnumerableSorter<TElement> getEnumerableSorter(IEnumerableSorter<TElement> next) {
+        IEnumerableSorter<TElement> sorter = sorterFactory.create(next);
         if (parent != null) sorter = parent.getEnumerableSorter(sorter);
         return sorter;
     }
 
+    @Override
+    public TElement last() throws UnsupportedOperationException {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        if (buffer.count == 0) throw new UnsupportedOperationException("The source sequence is empty.");
+
+        return buffer.get(getEnumerableSorter(null).max(buffer, buffer.count));
+    }
+
+    @Override
+    public TElement lastOrDefault() {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        if (buffer.count == 0) return null;
+
+        return buffer.get(getEnumerableSorter(null).max(buffer, buffer.count));
+    }
+
+    /**
+     * Returns the first count elements in order after selecting them with quickselect,
+     * so only those elements are ever fully sorted.
+     */
+    @Override
+    public IEnumerable<TElement> take(final long count) {
+        return new TopKEnumerable(Math.max(0, count));
+    }
+
+    @Override
+    public com.github.jlinqer.collections.List<TElement> toList() {
+        Buffer<TElement> buffer = new Buffer<>(source);
+        java.util.List<TElement> list = new ArrayList<>(buffer.count);
+        if (buffer.count > 0) {
+            int[] map = getEnumerableSorter(null).sort(buffer, buffer.count);
+            for (int i = 0; i < buffer.count; i++) list.add(buffer.get(map[i]));
+        }
+        return new com.github.jlinqer.collections.List<>(list);
+    }
+
+    private int keys() {
+        return (parent == null) ? 1 : parent.keys() + 1;
+    }
+
 // -------------------------- INNER CLASSES --------------------------
 
-    abstract class IEnumerableSorter<TElement> {
-        int[] sort(List<TElement> elements, int count) {
+    private class TopKEnumerable implements IEnumerable<TElement> {
+        final long count;
+
+        TopKEnumerable(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public Iterator<TElement> iterator() {
+            Buffer<TElement> buffer = new Buffer<>(source);
+            int taken = (int) Math.min(count, buffer.count);
+            int[] map = new int[taken];
+            if (taken > 0) map = getEnumerableSorter(null).top(buffer, buffer.count, taken);
+            return new MapIterator(buffer, map, taken);
+        }
+
+        @Override
+        public QueryPlan explain() {
+            return new QueryPlan("TopK", keys() == 1 ? String.valueOf(count) : count + ", " + keys() + " keys", QueryPlan.of(source));
+        }
+    }
+
+    private class MapIterator implements Iterator<TElement> {
+        final Buffer<TElement> buffer;
+        final int[] map;
+        final int count;
+        int index = 0;
+
+        MapIterator(Buffer<TElement> buffer, int[] map, int count) {
+            this.buffer = buffer;
+            this.map = map;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public TElement next() {
+            if (index >= count) throw new NoSuchElementException();
+            return buffer.get(map[index++]);
+        }
+    }
+
+    /**
+     * Sorts the index map as it is consumed: each step partitions only the range holding the next position,
+     * so the first element costs O(n) and the first k cost O(n + k log k).
+     */
+    private class OrderedIterator implements Iterator<TElement> {
+        final Buffer<TElement> buffer;
+        final int count;
+        IEnumerableSorter<TElement> sorter;
+        int[] map;
+        int[] bounds = new int[16];
+        int depth = 0;
+        int sorted = 0;
+        int index = 0;
+
+        OrderedIterator() {
+            buffer = new Buffer<>(source);
+            count = buffer.count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public TElement next() {
+            if (index >= count) throw new NoSuchElementException();
+            if (index >= sorted) sortNext();
+            return buffer.get(map[index++]);
+        }
+
+        private void sortNext() {
+            if (sorter == null) {
+                sorter = getEnumerableSorter(null);
+                sorter.computeKeys(buffer, count);
+                // A radix sort is linear already, so it finishes the whole map up front.
+                map = sorter.trySortByRadix(count);
+                if (map != null) {
+                    sorted = count;
+                    return;
+                }
+                map = new int[count];
+                for (int i = 0; i < count; i++) map[i] = i;
+                bounds[depth++] = count;
+            }
+
+            while (bounds[depth - 1] - index > IEnumerableSorter.SMALL_RANGE) {
+                if (depth == bounds.length) bounds = Arrays.copyOf(bounds, depth * 2);
+                bounds[depth] = sorter.partition(map, index, bounds[depth - 1] - 1);
+                depth++;
+            }
+
+            // Everything before the bound is now small enough to sort outright; the bound itself is in place.
+            int bound = bounds[--depth];
+            if (index < bound - 1) sorter.quickSort(map, index, bound - 1);
+            sorted = Math.min(bound + 1, count);
+        }
+    }
+
+    interface SorterFactory<TElement> {
+        IEnumerableSorter<TElement> create(IEnumerableSorter<TElement> next);
+    }
+
+    abstract static class IEnumerableSorter<TElement> {
+        /**
+         * The element count from which a sorter whose keys have a radix form sorts by digits instead of comparisons.
+         */
+        static final int RADIX_THRESHOLD = 1 << 10;
+
+        /**
+         * The range size below which partial sorts stop partitioning and sort the rest outright.
+         */
+        static final int SMALL_RANGE = 16;
+
+        final boolean descending;
+        final IEnumerableSorter<TElement> next;
+
+        IEnumerableSorter(boolean descending, IEnumerableSorter<TElement> next) {
+            this.descending = descending;
+            this.next = next;
+        }
+
+        int[] sort(Buffer<TElement> elements, int count) {
             computeKeys(elements, count);
-            int[] map = new int[count];
-            for (int i = 0; i < count; i++) map[i] = i;
-            quickSort(map, 0, count - 1);
+            int[] map = trySortByRadix(count);
+            if (map == null) {
+                map = identity(count);
+                quickSort(map, 0, count - 1);
+            }
+            return map;
+        }
+
+        /**
+         * Returns the index of the first element in sort order, in one pass over the keys.
+         */
+        int min(Buffer<TElement> elements, int count) {
+            computeKeys(elements, count);
+            int min = 0;
+            for (int i = 1; i < count; i++) if (compareKeys(i, min) < 0) min = i;
+            return min;
+        }
+
+        /**
+         * Returns the index of the last element in sort order, in one pass over the keys.
+         */
+        int max(Buffer<TElement> elements, int count) {
+            computeKeys(elements, count);
+            int max = 0;
+            for (int i = 1; i < count; i++) if (compareKeys(i, max) > 0) max = i;
+            return max;
+        }
+
+        /**
+         * Returns the index of the element at the given position in sort order, using quickselect.
+         */
+        int select(Buffer<TElement> elements, int count, int position) {
+            computeKeys(elements, count);
+            int[] map = identity(count);
+            select(map, 0, count - 1, position);
+            return map[position];
+        }
+
+        /**
+         * Returns the indexes of the first taken elements in sort order; only those are sorted.
+         */
+        int[] top(Buffer<TElement> elements, int count, int taken) {
+            computeKeys(elements, count);
+            int[] map = identity(count);
+            if (taken < count) select(map, 0, count - 1, taken - 1);
+            quickSort(map, 0, taken - 1);
+            return map;
+        }
+
+        abstract void computeKeys(Buffer<TElement> elements, int count);
+
+        /**
+         * Returns the fully sorted indexes when the keys are computed, numerous enough and have a radix form,
+         * or null otherwise.
+         */
+        int[] trySortByRadix(int count) {
+            int[] map = (count >= RADIX_THRESHOLD) ? radixSort(count) : null;
+            if (map != null && next != null) sortRuns(map, count);
             return map;
         }
 
-        abstract void computeKeys(List<TElement> elements, int count);
+        /**
+         * Returns the indexes ordered by this level's key alone, ties kept in index order,
+         * or null when the keys have no radix form.
+         */
+        int[] radixSort(int count) {
+            return null;
+        }
+
+        void sortRuns(int[] map, int count) {
+            int start = 0;
+            for (int i = 1; i <= count; i++) {
+                if (i == count || !equalKeys(map[start], map[i])) {
+                    if (i - start > 1) next.quickSort(map, start, i - 1);
+                    start = i;
+                }
+            }
+        }
+
+        /**
+         * Moves the element at the given position of map[left..right] to its sorted place,
+         * with smaller ones before it and larger ones after it.
+         */
+        void select(int[] map, int left, int right, int position) {
+            while (right - left > SMALL_RANGE) {
+                int pivot = partition(map, left, right);
+                if (pivot == position) return;
+                if (position < pivot) right = pivot - 1;
+                else left = pivot + 1;
+            }
+            if (left < right) quickSort(map, left, right);
+        }
+
+        /**
+         * Partitions map[left..right], at least three entries, around a median-of-three pivot
+         * and returns the pivot's final position.
+         */
+        int partition(int[] map, int left, int right) {
+            int middle = (left + right) >>> 1;
+            if (compareKeys(map[middle], map[left]) < 0) swap(map, middle, left);
+            if (compareKeys(map[right], map[left]) < 0) swap(map, right, left);
+            if (compareKeys(map[right], map[middle]) < 0) swap(map, right, middle);
+
+            // Keys never compare equal because ties fall back to the index, so both scans stop at the sentinels.
+            int pivot = map[middle];
+            swap(map, middle, right - 1);
+            int i = left;
+            int j = right - 1;
+            while (true) {
+                while (compareKeys(map[++i], pivot) < 0) ;
+                while (compareKeys(map[--j], pivot) > 0) ;
+                if (i >= j) break;
+                swap(map, i, j);
+            }
+            swap(map, i, right - 1);
+            return i;
+        }
 
         void quickSort(int[] map, int left, int right) {
             do {
@@ -111,65 +467,431 @@ class OrderedEnumerableIterator<TElement, TKey> implements IEnumerable<TElement>
             } while (left < right);
         }
 
-        abstract int compareKeys(int index1, int index2);
+        int compareKeys(int index1, int index2) {
+            int c = compareKey(index1, index2);
+            if (c == 0) {
+                if (next == null) return index1 - index2;
+                return next.compareKeys(index1, index2);
+            }
+            return descending ? -c : c;
+        }
+
+        abstract int compareKey(int index1, int index2);
+
+        boolean equalKeys(int index1, int index2) {
+            return compareKey(index1, index2) == 0;
+        }
+
+        private static int[] identity(int count) {
+            int[] map = new int[count];
+            for (int i = 0; i < count; i++) map[i] = i;
+            return map;
+        }
+
+        private static void swap(int[] map, int a, int b) {
+            int temp = map[a];
+            map[a] = map[b];
+            map[b] = temp;
+        }
     }
 
-    class EnumerableSorter<TElement, TKey> extends IEnumerableSorter<TElement> {
+    static class EnumerableSorter<TElement, TKey> extends IEnumerableSorter<TElement> {
         final Function<TElement, TKey> keySelector;
         final Comparator<TKey> comparer;
-        final boolean descending;
-        final IEnumerableSorter<TElement> next;
         java.util.List<TKey> keys;
+
         EnumerableSorter(Function<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, IEnumerableSorter<TElement> next) {
+            super(descending, next);
             this.keySelector = keySelector;
             this.comparer = comparer;
-            this.descending = descending;
-            this.next = next;
         }
 
-        int compareKeys(int index1, int index2) {
-            int c = comparer.compare(keys.get(index1), keys.get(index2));
-            if (c == 0) {
-                if (next == null) return index1 - index2;
-                return next.compareKeys(index1, index2);
-            }
-            return descending ? -c : c;
+        @Override
+        int compareKey(int index1, int index2) {
+            return comparer.compare(keys.get(index1), keys.get(index2));
         }
 
         @Override
-        void computeKeys(List<TElement> elements, int count) {
-            keys = new ArrayList<>();
+        void computeKeys(Buffer<TElement> elements, int count) {
+            keys = new ArrayList<>(count);
             for (int i = 0; i < count; i++) keys.add(keySelector.apply(elements.get(i)));
             if (next != null) next.computeKeys(elements, count);
         }
-    }
 
-    class Buffer<TElement> {
-        final List<TElement> items;
-        final int count;
-        Buffer(IEnumerable<TElement> source) {
-            List<TElement> items = null;
-            int count = 0;
-            if (source != null) {
-                count = source.count();
-                if (count > 0) {
-                    items = new ArrayList<>(count);
-                    items.addAll(source.toList());
+        @Override
+        int[] radixSort(int count) {
+            // Only the natural ordering of boxed integers and strings matches their digit order.
+            if (comparer != NATURAL_ORDER) return null;
+
+            Object first = keys.get(0);
+            if (first instanceof Integer) {
+                int[] intKeys = new int[count];
+                for (int i = 0; i < count; i++) {
+                    Object key = keys.get(i);
+                    if (!(key instanceof Integer)) return null;
+                    intKeys[i] = (Integer) key;
                 }
-            } else {
-                for (TElement item : source) {
-                    if (items == null) {
-                        items = new ArrayList<>(4);
-                    } else if (items.size() == count) {
-                        List<TElement> newItems = new ArrayList<>(count * 2);
-                        items.addAll(newItems);
-                    }
-                    items.set(count, item);
-                    count++;
+                return radixSortInt(intKeys, descending);
+            }
+            if (first instanceof Long) {
+                long[] longKeys = new long[count];
+                for (int i = 0; i < count; i++) {
+                    Object key = keys.get(i);
+                    if (!(key instanceof Long)) return null;
+                    longKeys[i] = (Long) key;
                 }
+                return radixSortLong(longKeys, descending);
             }
-            this.items = items;
-            this.count = count;
+            if (first instanceof String) {
+                String[] stringKeys = new String[count];
+                for (int i = 0; i < count; i++) {
+                    Object key = keys.get(i);
+                    if (!(key instanceof String)) return null;
+                    stringKeys[i] = (String) key;
+                }
+                return radixSortString(stringKeys, descending, this);
+            }
+            return null;
+        }
+    }
+
+    static class IntEnumerableSorter<TElement> extends IEnumerableSorter<TElement> {
+        final ToIntFunction<TElement> keySelector;
+        int[] keys;
+
+        IntEnumerableSorter(ToIntFunction<TElement> keySelector, boolean descending, IEnumerableSorter<TElement> next) {
+            super(descending, next);
+            this.keySelector = keySelector;
+        }
+
+        @Override
+        int[] sort(Buffer<TElement> elements, int count) {
+            if (next != null || count >= RADIX_THRESHOLD) return super.sort(elements, count);
+
+            // A lone int key packs with its index into one long, so a primitive sort is already stable.
+            computeKeys(elements, count);
+            long[] packed = new long[count];
+            for (int i = 0; i < count; i++) {
+                int key = descending ? ~keys[i] : keys[i];
+                packed[i] = ((long) key << 32) | i;
+            }
+            Arrays.sort(packed);
+
+            int[] map = new int[count];
+            for (int i = 0; i < count; i++) map[i] = (int) packed[i];
+            return map;
+        }
+
+        @Override
+        int compareKey(int index1, int index2) {
+            return Integer.compare(keys[index1], keys[index2]);
+        }
+
+        @Override
+        boolean equalKeys(int index1, int index2) {
+            return keys[index1] == keys[index2];
+        }
+
+        @Override
+        void computeKeys(Buffer<TElement> elements, int count) {
+            keys = new int[count];
+            for (int i = 0; i < count; i++) keys[i] = keySelector.applyAsInt(elements.get(i));
+            if (next != null) next.computeKeys(elements, count);
+        }
+
+        @Override
+        int[] radixSort(int count) {
+            return radixSortInt(keys, descending);
+        }
+    }
+
+    static class LongEnumerableSorter<TElement> extends IEnumerableSorter<TElement> {
+        final ToLongFunction<TElement> keySelector;
+        long[] keys;
+
+        LongEnumerableSorter(ToLongFunction<TElement> keySelector, boolean descending, IEnumerableSorter<TElement> next) {
+            super(descending, next);
+            this.keySelector = keySelector;
+        }
+
+        @Override
+        int[] sort(Buffer<TElement> elements, int count) {
+            if (next != null || count >= RADIX_THRESHOLD) return super.sort(elements, count);
+
+            computeKeys(elements, count);
+            return sortLongKeys(keys, descending);
+        }
+
+        @Override
+        int compareKey(int index1, int index2) {
+            return Long.compare(keys[index1], keys[index2]);
+        }
+
+        @Override
+        boolean equalKeys(int index1, int index2) {
+            return keys[index1] == keys[index2];
         }
+
+        @Override
+        void computeKeys(Buffer<TElement> elements, int count) {
+            keys = new long[count];
+            for (int i = 0; i < count; i++) keys[i] = keySelector.applyAsLong(elements.get(i));
+            if (next != null) next.computeKeys(elements, count);
+        }
+
+        @Override
+        int[] radixSort(int count) {
+            return radixSortLong(keys, descending);
+        }
+    }
+
+    static class DoubleEnumerableSorter<TElement> extends LongEnumerableSorter<TElement> {
+        final ToDoubleFunction<TElement> doubleKeySelector;
+
+        DoubleEnumerableSorter(ToDoubleFunction<TElement> keySelector, boolean descending, IEnumerableSorter<TElement> next) {
+            super(null, descending, next);
+            this.doubleKeySelector = keySelector;
+        }
+
+        @Override
+        void computeKeys(Buffer<TElement> elements, int count) {
+            // Doubles are stored as longs that order the same way Double.compare does.
+            keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                long bits = Double.doubleToLongBits(doubleKeySelector.applyAsDouble(elements.get(i)));
+                keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+            }
+            if (next != null) next.computeKeys(elements, count);
+        }
+    }
+
+    static class StringEnumerableSorter<TElement> extends IEnumerableSorter<TElement> {
+        final Function<TElement, String> keySelector;
+        String[] keys;
+
+        StringEnumerableSorter(Function<TElement, String> keySelector, boolean descending, IEnumerableSorter<TElement> next) {
+            super(descending, next);
+            this.keySelector = keySelector;
+        }
+
+        @Override
+        int compareKey(int index1, int index2) {
+            String key1 = keys[index1];
+            String key2 = keys[index2];
+            return (key1 == key2) ? 0 : (key1 == null) ? -1 : (key2 == null) ? 1 : key1.compareTo(key2);
+        }
+
+        @Override
+        void computeKeys(Buffer<TElement> elements, int count) {
+            keys = new String[count];
+            for (int i = 0; i < count; i++) keys[i] = keySelector.apply(elements.get(i));
+            if (next != null) next.computeKeys(elements, count);
+        }
+
+        @Override
+        int[] radixSort(int count) {
+            return radixSortString(keys, descending, this);
+        }
+    }
+
+    /**
+     * Sorts element indexes by long keys, breaking ties by index, on parallel primitive arrays.
+     */
+    static int[] sortLongKeys(long[] keys, boolean descending) {
+        int count = keys.length;
+        long[] sortKeys = new long[count];
+        int[] map = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortKeys[i] = descending ? ~keys[i] : keys[i];
+            map[i] = i;
+        }
+        sortLongKeys(sortKeys, map, 0, count - 1);
+        return map;
+    }
+
+    private static void sortLongKeys(long[] keys, int[] map, int left, int right) {
+        while (right - left > 16) {
+            int middle = (left + right) >>> 1;
+            if (lessThan(keys, map, middle, left)) swap(keys, map, middle, left);
+            if (lessThan(keys, map, right, left)) swap(keys, map, right, left);
+            if (lessThan(keys, map, right, middle)) swap(keys, map, right, middle);
+
+            long pivotKey = keys[middle];
+            int pivotIndex = map[middle];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (keys[i] < pivotKey || (keys[i] == pivotKey && map[i] < pivotIndex)) i++;
+                while (keys[j] > pivotKey || (keys[j] == pivotKey && map[j] > pivotIndex)) j--;
+                if (i <= j) swap(keys, map, i++, j--);
+            }
+
+            if (j - left < right - i) {
+                sortLongKeys(keys, map, left, j);
+                left = i;
+            } else {
+                sortLongKeys(keys, map, i, right);
+                right = j;
+            }
+        }
+
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            int index = map[i];
+            int j = i - 1;
+            while (j >= left && (keys[j] > key || (keys[j] == key && map[j] > index))) {
+                keys[j + 1] = keys[j];
+                map[j + 1] = map[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            map[j + 1] = index;
+        }
+    }
+
+    private static boolean lessThan(long[] keys, int[] map, int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && map[a] < map[b]);
+    }
+
+    private static void swap(long[] keys, int[] map, int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int index = map[a];
+        map[a] = map[b];
+        map[b] = index;
+    }
+
+    /**
+     * Stable LSD radix sort of element indexes by int keys, one byte per pass.
+     */
+    static int[] radixSortInt(int[] keys, boolean descending) {
+        int count = keys.length;
+        int[] sortKeys = new int[count];
+        int[] map = new int[count];
+        for (int i = 0; i < count; i++) {
+            // Flipping the sign bit makes the signed order an unsigned one; complementing reverses it.
+            sortKeys[i] = (descending ? ~keys[i] : keys[i]) ^ Integer.MIN_VALUE;
+            map[i] = i;
+        }
+
+        int[] auxKeys = new int[count];
+        int[] auxMap = new int[count];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < count; i++) counts[((sortKeys[i] >>> shift) & 0xff) + 1]++;
+            if (counts[((sortKeys[0] >>> shift) & 0xff) + 1] == count) continue;
+
+            for (int r = 0; r < 256; r++) counts[r + 1] += counts[r];
+            for (int i = 0; i < count; i++) {
+                int position = counts[(sortKeys[i] >>> shift) & 0xff]++;
+                auxKeys[position] = sortKeys[i];
+                auxMap[position] = map[i];
+            }
+
+            int[] temp = sortKeys;
+            sortKeys = auxKeys;
+            auxKeys = temp;
+            temp = map;
+            map = auxMap;
+            auxMap = temp;
+        }
+        return map;
+    }
+
+    /**
+     * Stable LSD radix sort of element indexes by long keys, one byte per pass.
+     */
+    static int[] radixSortLong(long[] keys, boolean descending) {
+        int count = keys.length;
+        long[] sortKeys = new long[count];
+        int[] map = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortKeys[i] = (descending ? ~keys[i] : keys[i]) ^ Long.MIN_VALUE;
+            map[i] = i;
+        }
+
+        long[] auxKeys = new long[count];
+        int[] auxMap = new int[count];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < count; i++) counts[(int) ((sortKeys[i] >>> shift) & 0xff) + 1]++;
+            if (counts[(int) ((sortKeys[0] >>> shift) & 0xff) + 1] == count) continue;
+
+            for (int r = 0; r < 256; r++) counts[r + 1] += counts[r];
+            for (int i = 0; i < count; i++) {
+                int position = counts[(int) ((sortKeys[i] >>> shift) & 0xff)]++;
+                auxKeys[position] = sortKeys[i];
+                auxMap[position] = map[i];
+            }
+
+            long[] temp = sortKeys;
+            sortKeys = auxKeys;
+            auxKeys = temp;
+            int[] tempMap = map;
+            map = auxMap;
+            auxMap = tempMap;
+        }
+        return map;
+    }
+
+    /**
+     * Stable MSD radix sort of element indexes by string keys, reading each char as two bytes so the digit
+     * order matches String.compareTo. Null keys order first, as in StringEnumerableSorter.
+     * Small or deeply shared buckets are finished by the given sorter's comparison sort.
+     */
+    static int[] radixSortString(String[] keys, boolean descending, IEnumerableSorter<?> fallback) {
+        int count = keys.length;
+        int[] map = new int[count];
+        int nulls = 0;
+        for (int i = 0; i < count; i++) if (keys[i] == null) nulls++;
+
+        int nullPosition = descending ? count - nulls : 0;
+        int position = descending ? 0 : nulls;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == null) map[nullPosition++] = i;
+            else map[position++] = i;
+        }
+
+        int left = descending ? 0 : nulls;
+        radixSortString(keys, descending, fallback, map, new int[count], left, left + count - nulls - 1, 0);
+        return map;
+    }
+
+    private static void radixSortString(String[] keys, boolean descending, IEnumerableSorter<?> fallback, int[] map, int[] aux, int left, int right, int depth) {
+        if (right - left < 16 || depth > 1024) {
+            if (left < right) fallback.quickSort(map, left, right);
+            return;
+        }
+
+        int[] counts = new int[257];
+        for (int i = left; i <= right; i++) counts[digit(keys[map[i]], depth)]++;
+
+        int[] ends = new int[257];
+        int position = 0;
+        for (int r = 0; r < 257; r++) {
+            int digit = descending ? 256 - r : r;
+            position += counts[digit];
+            ends[digit] = position;
+        }
+        for (int i = right; i >= left; i--) aux[--ends[digit(keys[map[i]], depth)]] = map[i];
+        System.arraycopy(aux, 0, map, left, right - left + 1);
+
+        // ends now holds each bucket's start; bucket 0 holds keys that are exhausted, hence equal.
+        for (int digit = 1; digit < 257; digit++) {
+            if (counts[digit] > 1) {
+                int start = left + ends[digit];
+                radixSortString(keys, descending, fallback, map, aux, start, start + counts[digit] - 1, depth + 1);
+            }
+        }
+    }
+
+    private static int digit(String key, int depth) {
+        int index = depth >> 1;
+        if (index >= key.length()) return 0;
+        char c = key.charAt(index);
+        return 1 + (((depth & 1) == 0) ? (c >>> 8) : (c & 0xff));
     }
-}
\ No newline at end of file
+}
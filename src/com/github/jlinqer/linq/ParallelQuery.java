@@ -0,0 +1,405 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.*;
+
+/**
+ * A query whose where, select and selectMany stages are fused into one per-element pipeline that runs
+ * on a ForkJoinPool. Workers claim small chunks of the buffered source until none are left, so a busy
+ * or slow worker never holds up the others.
+ * <p>
+ * Unordered queries keep one partial result per worker; ordered ones keep one per chunk and combine
+ * them in source order. Any other IEnumerable operator runs sequentially over the parallel results.
+ */
+public class ParallelQuery<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final IEnumerable<?> source;
+    private final Function<Consumer<TSource>, Consumer<Object>> pipeline;
+    private final ForkJoinPool pool;
+    private final int degreeOfParallelism;
+    private final boolean ordered;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    @SuppressWarnings("unchecked")
+    ParallelQuery(IEnumerable<TSource> source) {
+        this(source, downstream -> item -> downstream.accept((TSource) item), ForkJoinPool.commonPool(), 0, false);
+    }
+
+    private ParallelQuery(IEnumerable<?> source, Function<Consumer<TSource>, Consumer<Object>> pipeline, ForkJoinPool pool, int degreeOfParallelism, boolean ordered) {
+        this.source = source;
+        this.pipeline = pipeline;
+        this.pool = pool;
+        this.degreeOfParallelism = degreeOfParallelism;
+        this.ordered = ordered;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return toList().iterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Aggregates the query in parallel: each partition folds its elements into its own copy of seed,
+     * and the partial results are merged with combine.
+     *
+     * @param seed              The initial accumulator value of every partition; it must be an identity for combine.
+     * @param func              An accumulator function to be invoked on each element.
+     * @param combine           A function that merges two partial accumulator values.
+     * @param <TAccumulate>     The type of the accumulator value.
+     * @return The final accumulator value.
+     * @throws IllegalArgumentException func or combine is null.
+     */
+    @SuppressWarnings("unchecked")
+    public <TAccumulate> TAccumulate aggregate(final TAccumulate seed, final BiFunction<TAccumulate, TSource, TAccumulate> func, final BinaryOperator<TAccumulate> combine) throws IllegalArgumentException {
+        if (func == null) throw new IllegalArgumentException("func is null.");
+        if (combine == null) throw new IllegalArgumentException("combine is null.");
+
+        Object[] result = execute(() -> new Object[]{seed}, (state, item) -> state[0] = func.apply((TAccumulate) state[0], item),
+                (left, right) -> {
+                    left[0] = combine.apply((TAccumulate) left[0], (TAccumulate) right[0]);
+                    return left;
+                });
+        return (TAccumulate) result[0];
+    }
+
+    /**
+     * Enables order preservation: results then come back in source order.
+     *
+     * @return A query that preserves the order of the source.
+     */
+    public ParallelQuery<TSource> asOrdered() {
+        return new ParallelQuery<>(source, pipeline, pool, degreeOfParallelism, true);
+    }
+
+    @Override
+    public ParallelQuery<TSource> asParallel() {
+        return this;
+    }
+
+    /**
+     * Converts the query back into a lazy sequential sequence that runs the pipeline on the calling thread.
+     *
+     * @return An IEnumerable&lt;TSource&gt; that pulls each source element through the pipeline on demand.
+     */
+    public IEnumerable<TSource> asSequential() {
+        return () -> new Iterator<TSource>() {
+            private final Iterator<?> iterator = source.iterator();
+            private final java.util.List<TSource> pending = new ArrayList<>();
+            private final Consumer<Object> sink = pipeline.apply(pending::add);
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (index >= pending.size()) {
+                    if (!iterator.hasNext()) return false;
+                    pending.clear();
+                    index = 0;
+                    sink.accept(iterator.next());
+                }
+                return true;
+            }
+
+            @Override
+            public TSource next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return pending.get(index++);
+            }
+        };
+    }
+
+    @Override
+    public BigDecimal averageBigDecimal(final Function<TSource, BigDecimal> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        Object[] result = execute(() -> new Object[]{BigDecimal.ZERO, 0L},
+                (state, item) -> {
+                    state[0] = ((BigDecimal) state[0]).add(selector.apply(item));
+                    state[1] = (Long) state[1] + 1;
+                },
+                (left, right) -> new Object[]{((BigDecimal) left[0]).add((BigDecimal) right[0]), (Long) left[1] + (Long) right[1]});
+        if ((Long) result[1] == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return ((BigDecimal) result[0]).divide(new BigDecimal((Long) result[1]));
+    }
+
+    @Override
+    public double averageDouble(final DoubleSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        double[] result = execute(() -> new double[2],
+                (state, item) -> {
+                    state[0] += selector.applyAsDouble(item);
+                    state[1]++;
+                },
+                (left, right) -> new double[]{left[0] + right[0], left[1] + right[1]});
+        if (result[1] == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return result[0] / result[1];
+    }
+
+    @Override
+    public double averageInt(final IntSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        long[] result = sumAndCount(selector::applyAsInt);
+        if (result[1] == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return Math.toIntExact(result[0]) / (double) result[1];
+    }
+
+    @Override
+    public double averageLong(final LongSelector<TSource> selector) throws IllegalArgumentException, UnsupportedOperationException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        long[] result = sumAndCount(selector);
+        if (result[1] == 0) throw new UnsupportedOperationException("source contains no elements.");
+
+        return result[0] / (double) result[1];
+    }
+
+    @Override
+    public int count() throws ArithmeticException {
+        long[] result = sumAndCount(item -> 0L);
+        return Math.toIntExact(result[1]);
+    }
+
+    @Override
+    public int count(final Predicate<TSource> predicate) throws IllegalArgumentException, ArithmeticException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return this.where(predicate).count();
+    }
+
+    /**
+     * The where, select and selectMany stages of a parallel query run fused in one pipeline, so they appear as a
+     * single AsParallel node over the sequential plan of its source.
+     */
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("AsParallel", ordered ? "ordered" : "", QueryPlan.of(source));
+    }
+
+    /**
+     * Invokes an action on every element in parallel, in no particular order and without buffering results.
+     *
+     * @param action The action to invoke on each element.
+     * @throws IllegalArgumentException action is null.
+     */
+    public void forAll(final Consumer<TSource> action) throws IllegalArgumentException {
+        if (action == null) throw new IllegalArgumentException("action is null.");
+
+        execute(() -> Boolean.TRUE, (state, item) -> action.accept(item), (left, right) -> left);
+    }
+
+    /**
+     * @return Whether results come back in source order.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    @Override
+    public <TKey extends Comparable> TSource max(final Function<TSource, TKey> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return extreme(selector, 1);
+    }
+
+    @Override
+    public <TKey extends Comparable> TSource min(final Function<TSource, TKey> selector) throws IllegalArgumentException, UnsupportedOperationException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return extreme(selector, -1);
+    }
+
+    @Override
+    public <TResult> ParallelQuery<TResult> select(final Function<TSource, TResult> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return new ParallelQuery<TResult>(source, downstream -> pipeline.apply(item -> downstream.accept(selector.apply(item))), pool, degreeOfParallelism, ordered);
+    }
+
+    @Override
+    public <TResult> ParallelQuery<TResult> selectMany(final Function<TSource, IEnumerable<TResult>> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return new ParallelQuery<TResult>(source, downstream -> pipeline.apply(item -> {
+            for (TResult result : selector.apply(item)) downstream.accept(result);
+        }), pool, degreeOfParallelism, ordered);
+    }
+
+    @Override
+    public BigDecimal sumBigDecimal(final Function<TSource, BigDecimal> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return aggregate(BigDecimal.ZERO, (sum, item) -> sum.add(selector.apply(item)), BigDecimal::add);
+    }
+
+    @Override
+    public double sumDouble(final DoubleSelector<TSource> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        double[] result = execute(() -> new double[1], (state, item) -> state[0] += selector.applyAsDouble(item),
+                (left, right) -> new double[]{left[0] + right[0]});
+        return result[0];
+    }
+
+    @Override
+    public int sumInt(final IntSelector<TSource> selector) throws IllegalArgumentException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return Math.toIntExact(sumAndCount(selector::applyAsInt)[0]);
+    }
+
+    @Override
+    public long sumLong(final LongSelector<TSource> selector) throws IllegalArgumentException, ArithmeticException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return sumAndCount(selector)[0];
+    }
+
+    @Override
+    public List<TSource> toList() {
+        ArrayList<TSource> list = execute(ArrayList::new, ArrayList::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+        return new List<>(list);
+    }
+
+    @Override
+    public ParallelQuery<TSource> where(final Predicate<TSource> predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return new ParallelQuery<>(source, downstream -> pipeline.apply(item -> {
+            if (predicate.test(item)) downstream.accept(item);
+        }), pool, degreeOfParallelism, ordered);
+    }
+
+    /**
+     * Limits how many workers the query runs at once; by default it uses the parallelism of its pool.
+     *
+     * @param degreeOfParallelism The maximum number of concurrently running workers.
+     * @return A query that runs on at most degreeOfParallelism workers.
+     * @throws IllegalArgumentException degreeOfParallelism is less than 1.
+     */
+    public ParallelQuery<TSource> withDegreeOfParallelism(final int degreeOfParallelism) throws IllegalArgumentException {
+        if (degreeOfParallelism < 1) throw new IllegalArgumentException("degreeOfParallelism is less than 1.");
+
+        return new ParallelQuery<>(source, pipeline, pool, degreeOfParallelism, ordered);
+    }
+
+    /**
+     * Runs the query on the given pool instead of the common pool.
+     *
+     * @param pool The pool to run the query on.
+     * @return A query that runs on pool.
+     * @throws IllegalArgumentException pool is null.
+     */
+    public ParallelQuery<TSource> withPool(final ForkJoinPool pool) throws IllegalArgumentException {
+        if (pool == null) throw new IllegalArgumentException("pool is null.");
+
+        return new ParallelQuery<>(source, pipeline, pool, degreeOfParallelism, ordered);
+    }
+
+    /**
+     * Runs the pipeline over the source in parallel, folding each partition's results into its own state
+     * and merging the states; ordered queries merge them in source order.
+     */
+    @SuppressWarnings("unchecked")
+    private <TState> TState execute(Supplier<TState> supplier, BiConsumer<TState, TSource> accumulator, BinaryOperator<TState> combiner) {
+        final Buffer<Object> buffer = new Buffer<>((IEnumerable<Object>) source);
+        final int count = buffer.count;
+        if (count == 0) return supplier.get();
+
+        final int workers = Math.min(count, (degreeOfParallelism > 0) ? degreeOfParallelism : pool.getParallelism());
+        final int chunkSize = Math.max(1, count / (workers * CHUNKS_PER_WORKER));
+        final int chunks = (int) (((long) count + chunkSize - 1) / chunkSize);
+        final Object[] states = new Object[ordered ? chunks : workers];
+        final AtomicInteger nextChunk = new AtomicInteger();
+
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            final int worker = i;
+            tasks[i] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    Consumer<Object> sink = null;
+                    for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                        if (sink == null || ordered) {
+                            final TState state = supplier.get();
+                            states[ordered ? chunk : worker] = state;
+                            sink = pipeline.apply(item -> accumulator.accept(state, item));
+                        }
+
+                        int end = (int) Math.min(count, (long) (chunk + 1) * chunkSize);
+                        for (int index = chunk * chunkSize; index < end; index++) sink.accept(buffer.get(index));
+                    }
+                }
+            };
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        TState result = null;
+        for (Object state : states) {
+            if (state == null) continue;
+            result = (result == null) ? (TState) state : combiner.apply(result, (TState) state);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TKey extends Comparable> TSource extreme(Function<TSource, TKey> selector, int sign) {
+        Object[] result = execute(() -> new Object[3],
+                (state, item) -> {
+                    TKey key = selector.apply(item);
+                    if (state[2] == null || key.compareTo(state[1]) * sign > 0) {
+                        state[0] = item;
+                        state[1] = key;
+                        state[2] = Boolean.TRUE;
+                    }
+                },
+                (left, right) -> {
+                    if (right[2] == null) return left;
+                    if (left[2] == null || ((TKey) right[1]).compareTo(left[1]) * sign > 0) return right;
+                    return left;
+                });
+        if (result[2] == null) throw new UnsupportedOperationException("source contains no elements.");
+
+        return (TSource) result[0];
+    }
+
+    private long[] sumAndCount(ToLongFunction<TSource> selector) {
+        return execute(() -> new long[2],
+                (state, item) -> {
+                    state[0] = Math.addExact(state[0], selector.applyAsLong(item));
+                    state[1]++;
+                },
+                (left, right) -> new long[]{Math.addExact(left[0], right[0]), left[1] + right[1]});
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Returns a contiguous window of a sequence, enumerating the source once and only as far as the window reaches.
+ */
+class PartitionEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final long skip;
+    private final long take;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    /**
+     * @param iterable the source sequence.
+     * @param skip     the number of leading elements to bypass.
+     * @param take     the maximum number of elements to return, or -1 for no limit.
+     */
+    public PartitionEnumerableIterator(IEnumerable<TSource> iterable, long skip, long take) {
+        this.iterable = iterable;
+        this.skip = Math.max(0, skip);
+        this.take = take;
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Creates a window that indexes straight into random-access sources and streams any other source.
+     */
+    static <TSource> IEnumerable<TSource> create(IEnumerable<TSource> source, long skip, long take) {
+        if (ListEnumerableIterator.isRandomAccess(source)) return new ListPartitionEnumerableIterator<>((IList<TSource>) source, skip, take);
+        return new PartitionEnumerableIterator<>(source, skip, take);
+    }
+
+    static QueryPlan explain(Iterable<?> source, long skip, long take) {
+        if (take < 0) return new QueryPlan("Skip", String.valueOf(skip), QueryPlan.of(source));
+        if (skip == 0) return new QueryPlan("Take", String.valueOf(take), QueryPlan.of(source));
+        return new QueryPlan("Partition", "skip " + skip + ", take " + take, QueryPlan.of(source));
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return new PartitionIterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return explain(iterable, skip, take);
+    }
+
+    @Override
+    public IEnumerable<TSource> skip(final int count) {
+        if (count <= 0) return this;
+
+        final long remaining = (take < 0) ? -1 : Math.max(0, take - count);
+        return new PartitionEnumerableIterator<>(iterable, skip + count, remaining);
+    }
+
+    @Override
+    public IEnumerable<TSource> take(final long count) {
+        final long limit = (take < 0) ? Math.max(0, count) : Math.min(take, Math.max(0, count));
+        return new PartitionEnumerableIterator<>(iterable, skip, limit);
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class PartitionIterator implements Iterator<TSource> {
+        private Iterator<TSource> iterator;
+        private long returned = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (take >= 0 && returned >= take) return false;
+            if (iterator == null) iterator = seek();
+            return iterator.hasNext();
+        }
+
+        @Override
+        public TSource next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            returned++;
+            return iterator.next();
+        }
+
+        private Iterator<TSource> seek() {
+            if (iterable instanceof java.util.List) {
+                java.util.List<TSource> list = (java.util.List<TSource>) iterable;
+                return list.listIterator((int) Math.min(skip, list.size()));
+            }
+
+            Iterator<TSource> iterator = iterable.iterator();
+            for (long i = 0; i < skip && iterator.hasNext(); i++) iterator.next();
+            return iterator;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.jlinqer.linq;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A read-only description of how a query will run, as returned by IEnumerable.explain(). Each node names one
+ * operator, with an optional detail such as a count, and lists the plans of the sequences it reads.
+ * <p>
+ * Queries are rewritten as they are built, so the plan shows the operators that will actually run: consecutive
+ * wheres appear as one Where, a where followed by a select as one WhereSelect, and an orderBy followed by take
+ * as one TopK.
+ */
+public final class QueryPlan {
+// ------------------------------ FIELDS ------------------------------
+
+    private final String operator;
+    private final String detail;
+    private final java.util.List<QueryPlan> children;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    QueryPlan(String operator, String detail, QueryPlan... children) {
+        this.operator = operator;
+        this.detail = detail;
+        this.children = Collections.unmodifiableList(Arrays.asList(children));
+    }
+
+// -------------------------- STATIC METHODS --------------------------
+
+    /**
+     * Returns the plan of a sequence that an operator reads; plain Iterables become source nodes.
+     */
+    static QueryPlan of(Iterable<?> source) {
+        if (source instanceof IEnumerable) return ((IEnumerable<?>) source).explain();
+        return source(source);
+    }
+
+    static QueryPlan source(Iterable<?> source) {
+        final Class<?> type = source.getClass();
+        final String name = (type.isSynthetic() || type.isAnonymousClass()) ? "" : type.getSimpleName();
+        return new QueryPlan("Source", name);
+    }
+
+// --------------------- GETTER / SETTER METHODS ---------------------
+
+    /**
+     * @return The plans of the sequences this operator reads, in argument order.
+     */
+    public java.util.List<QueryPlan> getChildren() {
+        return children;
+    }
+
+    /**
+     * @return A short description of the operator's arguments, or an empty string.
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * @return The name of the operator, such as Where, Select, OrderBy or TopK.
+     */
+    public String getOperator() {
+        return operator;
+    }
+
+// ------------------------ CANONICAL METHODS ------------------------
+
+    /**
+     * @return The plan as an indented tree, one operator per line, with each operator above its inputs.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        append(builder, 0);
+        return builder.toString();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    private void append(StringBuilder builder, int depth) {
+        if (depth > 0) builder.append('\n');
+        for (int i = 0; i < depth; i++) builder.append("  ");
+        builder.append(operator);
+        if (!detail.isEmpty()) builder.append('(').append(detail).append(')');
+
+        for (QueryPlan child : children) child.append(builder, depth + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.jlinqer.linq;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Buffers a sequence that has no random access once and yields it back to front.
+ */
+class ReverseEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public ReverseEnumerableIterator(IEnumerable<TSource> iterable) {
+        this.iterable = iterable;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        final ArrayList<TSource> buffer = (iterable instanceof ICollection)
+                ? new ArrayList<>(((ICollection<TSource>) iterable).size())
+                : new ArrayList<>();
+        for (TSource item : iterable) buffer.add(item);
+
+        return new Iterator<TSource>() {
+            private int index = buffer.size();
+
+            @Override
+            public boolean hasNext() {
+                return index > 0;
+            }
+
+            @Override
+            public TSource next() {
+                if (index <= 0) throw new NoSuchElementException();
+                return buffer.get(--index);
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    /**
+     * Counts the source without buffering it, since reversing cannot change how many elements there are.
+     */
+    @Override
+    public int count() throws ArithmeticException {
+        return iterable.count();
+    }
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Reverse", "", QueryPlan.of(iterable));
+    }
+}
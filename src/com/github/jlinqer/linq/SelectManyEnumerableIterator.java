@@ -0,0 +1,68 @@
+package com.github.jlinqer.linq;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Projects each element to an IEnumerable and flattens the results while pulling from the source on demand.
+ */
+class SelectManyEnumerableIterator<TSource, TResult> implements IEnumerable<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final Function<TSource, IEnumerable<TResult>> selector;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public SelectManyEnumerableIterator(IEnumerable<TSource> iterable, Function<TSource, IEnumerable<TResult>> selector) {
+        this.iterable = iterable;
+        this.selector = selector;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TResult> iterator() {
+        return new SelectManyIterator(iterable.iterator(), selector);
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("SelectMany", "", QueryPlan.of(iterable));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class SelectManyIterator implements Iterator<TResult> {
+        private final Iterator<TSource> iterator;
+        private final Function<TSource, IEnumerable<TResult>> selector;
+        private Iterator<TResult> inner = Collections.emptyIterator();
+
+        private SelectManyIterator(Iterator<TSource> iterator, Function<TSource, IEnumerable<TResult>> selector) {
+            this.iterator = iterator;
+            this.selector = selector;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!inner.hasNext()) {
+                if (!iterator.hasNext()) return false;
+                inner = selector.apply(iterator.next()).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public TResult next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return inner.next();
+        }
+    }
+}
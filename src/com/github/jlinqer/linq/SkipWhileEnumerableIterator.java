@@ -0,0 +1,80 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Bypasses leading elements while a condition holds and streams the rest of the sequence.
+ */
+class SkipWhileEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final Predicate<TSource> predicate;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public SkipWhileEnumerableIterator(IEnumerable<TSource> iterable, Predicate<TSource> predicate) {
+        this.iterable = iterable;
+        this.predicate = predicate;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return new SkipWhileIterator(iterable.iterator());
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("SkipWhile", "", QueryPlan.of(iterable));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class SkipWhileIterator implements Iterator<TSource> {
+        private final Iterator<TSource> iterator;
+        private boolean skipped = false;
+        private boolean hasPending = false;
+        private TSource pending;
+
+        private SkipWhileIterator(Iterator<TSource> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!skipped) {
+                skipped = true;
+                while (iterator.hasNext()) {
+                    TSource item = iterator.next();
+                    if (!predicate.test(item)) {
+                        pending = item;
+                        hasPending = true;
+                        break;
+                    }
+                }
+            }
+            return hasPending || iterator.hasNext();
+        }
+
+        @Override
+        public TSource next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (hasPending) {
+                TSource item = pending;
+                pending = null;
+                hasPending = false;
+                return item;
+            }
+            return iterator.next();
+        }
+    }
+}
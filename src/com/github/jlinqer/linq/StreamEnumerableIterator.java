@@ -0,0 +1,47 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * Exposes a java.util.stream.Stream as a lazy sequence. Like the stream itself, it can be enumerated only once.
+ */
+class StreamEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final Stream<TSource> stream;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public StreamEnumerableIterator(Stream<TSource> stream) {
+        this.stream = stream;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public Spliterator<TSource> spliterator() {
+        return stream.spliterator();
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public Stream<TSource> asStream() {
+        return stream.sequential();
+    }
+
+    @Override
+    public Stream<TSource> asParallelStream() {
+        return stream.parallel();
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Streams leading elements while a condition holds and stops pulling from the source at the first failure.
+ */
+class TakeWhileEnumerableIterator<TSource> implements IEnumerable<TSource> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final Predicate<TSource> predicate;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    public TakeWhileEnumerableIterator(IEnumerable<TSource> iterable, Predicate<TSource> predicate) {
+        this.iterable = iterable;
+        this.predicate = predicate;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TSource> iterator() {
+        return new TakeWhileIterator(iterable.iterator());
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("TakeWhile", "", QueryPlan.of(iterable));
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private class TakeWhileIterator implements Iterator<TSource> {
+        private final Iterator<TSource> iterator;
+        private boolean done = false;
+        private boolean hasPending = false;
+        private TSource pending;
+
+        private TakeWhileIterator(Iterator<TSource> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasPending) return true;
+            if (done) return false;
+            if (iterator.hasNext()) {
+                TSource item = iterator.next();
+                if (predicate.test(item)) {
+                    pending = item;
+                    hasPending = true;
+                    return true;
+                }
+            }
+            done = true;
+            return false;
+        }
+
+        @Override
+        public TSource next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            TSource item = pending;
+            pending = null;
+            hasPending = false;
+            return item;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.jlinqer.linq;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -12,12 +14,18 @@ class WhereEnumerableIterator<TSource> implements IEnumerable<TSource> {
 
     private final IEnumerable<TSource> iterable;
     private final Predicate<TSource> predicate;
+    private final int predicates;
 
 // --------------------------- CONSTRUCTORS ---------------------------
 
     public WhereEnumerableIterator(IEnumerable<TSource> iterable, Predicate<TSource> predicate) {
+        this(iterable, predicate, 1);
+    }
+
+    private WhereEnumerableIterator(IEnumerable<TSource> iterable, Predicate<TSource> predicate, int predicates) {
         this.iterable = iterable;
         this.predicate = predicate;
+        this.predicates = predicates;
     }
 
 // ------------------------ INTERFACE METHODS ------------------------
@@ -30,12 +38,40 @@ class WhereEnumerableIterator<TSource> implements IEnumerable<TSource> {
         return new WhereIterator(iterable, predicate);
     }
 
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("Where", predicates == 1 ? "" : predicates + " predicates", QueryPlan.of(iterable));
+    }
+
+    /**
+     * Projects the matching elements in the same pass that filters them.
+     */
+    @Override
+    public <TResult> IEnumerable<TResult> select(final Function<TSource, TResult> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return new WhereSelectEnumerableIterator<>(iterable, predicate, selector, predicates);
+    }
+
+    /**
+     * Tests both predicates in one pass over the source instead of stacking a second filter on this one.
+     */
+    @Override
+    public IEnumerable<TSource> where(final Predicate<TSource> predicate) throws IllegalArgumentException {
+        if (predicate == null) throw new IllegalArgumentException("predicate is null.");
+
+        return new WhereEnumerableIterator<>(iterable, this.predicate.and(predicate), predicates + 1);
+    }
+
 // -------------------------- INNER CLASSES --------------------------
 
     public class WhereIterator implements Iterator<TSource> {
         private final Iterator<TSource> iterator;
         private final Predicate<TSource> predicate;
         private boolean hasUpdated = false;
+        private boolean hasItem = false;
         private TSource nextItem;
 
         private WhereIterator(Iterable<TSource> iterable, Predicate<TSource> predicate) {
@@ -45,24 +81,26 @@ class WhereEnumerableIterator<TSource> implements IEnumerable<TSource> {
 
         @Override
         public boolean hasNext() {
+            if (hasUpdated) return hasItem;
+
             hasUpdated = true;
             while (this.iterator.hasNext()) {
                 this.nextItem = iterator.next();
-                if (predicate.test(nextItem)) return true;
+                if (predicate.test(nextItem)) return hasItem = true;
             }
 
             nextItem = null;
-            return false;
+            return hasItem = false;
         }
 
         @Override
         public TSource next() {
-            if (!hasUpdated) {
-                this.hasNext();
-            }
+            if (!this.hasNext()) throw new NoSuchElementException();
 
             hasUpdated = false;
-            return nextItem;
+            TSource item = nextItem;
+            nextItem = null;
+            return item;
         }
     }
 }
@@ -0,0 +1,80 @@
+package com.github.jlinqer.linq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A where followed by a select, run as one pass that tests each element and projects only the ones that match.
+ */
+class WhereSelectEnumerableIterator<TSource, TResult> implements IEnumerable<TResult> {
+// ------------------------------ FIELDS ------------------------------
+
+    private final IEnumerable<TSource> iterable;
+    private final Predicate<TSource> predicate;
+    private final Function<TSource, TResult> selector;
+    private final int predicates;
+
+// --------------------------- CONSTRUCTORS ---------------------------
+
+    WhereSelectEnumerableIterator(IEnumerable<TSource> iterable, Predicate<TSource> predicate, Function<TSource, TResult> selector, int predicates) {
+        this.iterable = iterable;
+        this.predicate = predicate;
+        this.selector = selector;
+        this.predicates = predicates;
+    }
+
+// ------------------------ INTERFACE METHODS ------------------------
+
+
+// --------------------- Interface Iterable ---------------------
+
+    @Override
+    public Iterator<TResult> iterator() {
+        final Iterator<TSource> iterator = iterable.iterator();
+        return new Iterator<TResult>() {
+            private boolean hasUpdated = false;
+            private boolean hasItem = false;
+            private TSource nextItem;
+
+            @Override
+            public boolean hasNext() {
+                if (hasUpdated) return hasItem;
+
+                hasUpdated = true;
+                while (iterator.hasNext()) {
+                    nextItem = iterator.next();
+                    if (predicate.test(nextItem)) return hasItem = true;
+                }
+
+                nextItem = null;
+                return hasItem = false;
+            }
+
+            @Override
+            public TResult next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                hasUpdated = false;
+                TSource item = nextItem;
+                nextItem = null;
+                return selector.apply(item);
+            }
+        };
+    }
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Override
+    public QueryPlan explain() {
+        return new QueryPlan("WhereSelect", predicates == 1 ? "" : predicates + " predicates", QueryPlan.of(iterable));
+    }
+
+    @Override
+    public <TNext> IEnumerable<TNext> select(final Function<TResult, TNext> selector) throws IllegalArgumentException {
+        if (selector == null) throw new IllegalArgumentException("selector is null.");
+
+        return new WhereSelectEnumerableIterator<>(iterable, predicate, this.selector.andThen(selector), predicates);
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.jlinqer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the atomic operations of ConcurrentDictionary, alone and under contention.
+ */
+class ConcurrentDictionaryTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void functions() {
+        // arrange
+        ConcurrentDictionary<String, Integer> dic = new ConcurrentDictionary<>();
+
+        // act
+        boolean added = dic.tryAdd("ES", 7);
+        boolean addedAgain = dic.tryAdd("ES", 8);
+        int getOrAdd = dic.getOrAdd("ES", k -> 9);
+        int getOrAddNew = dic.getOrAdd("TS", k -> k.length());
+        int addOrUpdate = dic.addOrUpdate("ES", 0, (k, v) -> v + 1);
+        int addOrUpdateNew = dic.addOrUpdate("JS", 0, (k, v) -> v + 1);
+        boolean updated = dic.tryUpdate("JS", 5, 1);
+        boolean updatedMatch = dic.tryUpdate("JS", 5, 0);
+        Integer removed = dic.tryRemove("TS");
+        boolean removedMismatch = dic.tryRemove("JS", 4);
+
+        // assert
+        assertEquals(true, added);
+        assertEquals(false, addedAgain);
+        assertEquals(7, getOrAdd);
+        assertEquals(2, getOrAddNew);
+        assertEquals(8, addOrUpdate);
+        assertEquals(0, addOrUpdateNew);
+        assertEquals(false, updated);
+        assertEquals(true, updatedMatch);
+        assertEquals(2, removed.intValue());
+        assertEquals(false, removedMismatch);
+        assertEquals(2, dic.size());
+        assertEquals(13, dic.sumInt(Map.Entry::getValue));
+        assertEquals(13, dic.getValues().sumInt(x -> x));
+        assertEquals("ESJS", dic.getKeys().orderBy(x -> x).aggregate((x, y) -> x + y));
+    }
+
+    @Test
+    void enumerateWhileWriting() {
+        // arrange
+        ConcurrentDictionary<Integer, Integer> dic = new ConcurrentDictionary<>(16);
+        for (int i = 0; i < 100; i++) dic.put(i, i);
+
+        // act
+        int visited = 0;
+        for (Map.Entry<Integer, Integer> entry : dic) {
+            if (entry.getKey() < 1000) dic.put(entry.getKey() + 1000, 0);
+            visited++;
+        }
+
+        // assert
+        assertEquals(true, visited >= 100);
+        assertEquals(200, dic.size());
+    }
+
+    @Test
+    void concurrentWriters() throws InterruptedException {
+        // arrange
+        ConcurrentDictionary<Integer, Integer> dic = new ConcurrentDictionary<>();
+        AtomicInteger factoryCalls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // act
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 10000; i++) {
+                    dic.getOrAdd(i % 100, k -> {
+                        factoryCalls.incrementAndGet();
+                        return 0;
+                    });
+                    dic.addOrUpdate(-1, 1, (k, v) -> v + 1);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        // assert
+        assertEquals(100, factoryCalls.get());
+        assertEquals(80000, dic.get(-1).intValue());
+        assertEquals(101, dic.count());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        ConcurrentDictionary<String, Integer> dic = new ConcurrentDictionary<>();
+        Function<String, Integer> valueFactory = null;
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.put(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.getOrAdd("ES", valueFactory));
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.getOrAdd("ES", k -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.addOrUpdate("ES", 1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.tryRemove(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentDictionary<String, Integer>(-1));
+        assertEquals(true, dic.isEmpty());
+    }
+}
@@ -2,11 +2,15 @@ package com.github.jlinqer.collections;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Created by Keisuke Kato
@@ -39,4 +43,70 @@ class DictionaryTest {
         assertEquals(7, remove.intValue());
         assertEquals(0, size);
     }
-}
\ No newline at end of file
+
+    @Test
+    void matchesHashMap() {
+        // arrange
+        Dictionary<Integer, Integer> dic = new Dictionary<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(19);
+
+        // act
+        for (int i = 0; i < 20000; i++) {
+            // a small key space keeps removals shifting entries within shared probe runs
+            int key = random.nextInt(512) << 8;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), dic.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), dic.put(key, i));
+            }
+        }
+
+        // assert
+        assertEquals(expected.size(), dic.size());
+        for (Map.Entry<Integer, Integer> entry : dic) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+        }
+        for (int key = 0; key < 512 << 8; key += 256) {
+            assertEquals(expected.get(key), dic.get(key));
+            assertEquals(expected.containsKey(key), dic.containsKey(key));
+        }
+    }
+
+    @Test
+    void views() {
+        // arrange
+        Dictionary<String, Integer> dic = new Dictionary<>(2);
+        dic.put("Angular", 1);
+        dic.put("React", 2);
+        dic.put("Vue", 3);
+
+        // act
+        int actualKeyLength = dic.getKeys().sumInt(String::length);
+        int actualValueSum = dic.getValues().sumInt(x -> x);
+        int actualCount = dic.getKeys().count();
+        Iterator<Integer> values = dic.getValues().iterator();
+        dic.put("Ember", 4);
+
+        // assert
+        assertEquals(15, actualKeyLength);
+        assertEquals(6, actualValueSum);
+        assertEquals(3, actualCount);
+        assertEquals(4, dic.getValues().count());
+        assertThrows(ConcurrentModificationException.class, values::next);
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        Dictionary<String, Integer> dic = new Dictionary<>();
+
+        // act and assert
+        assertThrows(NullPointerException.class,
+                () -> dic.put(null, 1));
+        assertThrows(NullPointerException.class,
+                () -> dic.put("ES", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Dictionary<String, Integer>(-1));
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.jlinqer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks DoubleList, including the Double.equals treatment of NaN and signed zeros.
+ */
+class DoubleListTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void functions() {
+        // arrange
+        DoubleList list = new DoubleList(4);
+
+        // act
+        list.add(1.5);
+        list.add(Double.NaN);
+        list.add(-0d);
+        list.add(2.5);
+        double replaced = list.set(3, 3.5);
+
+        // assert
+        assertEquals(2.5, replaced);
+        assertEquals(4, list.count());
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(2, list.indexOf(-0d));
+        assertEquals(-1, list.indexOf(0d));
+        assertEquals(DoubleList.of(1.5, Double.NaN, -0d, 3.5), list);
+        assertEquals(5d, list.where(x -> !Double.isNaN(x)).sum());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        DoubleList list = DoubleList.of(1d);
+
+        // act and assert
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.set(1, 0d));
+    }
+}
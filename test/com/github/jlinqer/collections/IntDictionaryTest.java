@@ -0,0 +1,78 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks IntDictionary against java.util.HashMap.
+ */
+class IntDictionaryTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void matchesHashMap() {
+        // arrange
+        IntDictionary<String> dic = new IntDictionary<>();
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(23);
+
+        // act
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(1000) - 500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), dic.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), dic.put(key, "v" + i));
+            }
+        }
+
+        // assert
+        assertEquals(expected.size(), dic.size());
+        assertEquals(expected.size(), dic.getKeys().count());
+        for (Map.Entry<Integer, String> entry : dic) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+        }
+        for (int key = -500; key < 500; key++) {
+            assertEquals(expected.get(key), dic.get(key));
+            assertEquals(expected.containsKey(key), dic.containsKey(key));
+        }
+    }
+
+    @Test
+    void toIntDictionary() {
+        // arrange
+        IEnumerable<String> source = new List<>("Angular", "React", "Vue");
+
+        // act
+        IntDictionary<String> actual = source.toIntDictionary(String::length);
+        IntDictionary<Character> actualSelect = source.toIntDictionary(String::length, x -> x.charAt(0));
+
+        // assert
+        assertEquals("Angular", actual.get(7));
+        assertEquals(null, actual.get(4));
+        assertEquals('R', actualSelect.get(5).charValue());
+        assertEquals(15, actual.getKeys().sum());
+        assertEquals("AngularReactVue", actual.getValues().orderBy(x -> x).aggregate((x, y) -> x + y));
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        IntDictionary<String> dic = new IntDictionary<>();
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.put(0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new List<>("a").toIntDictionary(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntDictionary<String>(-1));
+    }
+}
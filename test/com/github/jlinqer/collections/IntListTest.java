@@ -0,0 +1,70 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+import com.github.jlinqer.linq.IntEnumerable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks IntList against the boxed List it replaces.
+ */
+class IntListTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void functions() {
+        // arrange
+        IntList list = new IntList();
+
+        // act
+        for (int i = 0; i < 100; i++) list.add(i * 3);
+        int removed = list.removeAt(0);
+        int replaced = list.set(0, -1);
+
+        // assert
+        assertEquals(0, removed);
+        assertEquals(3, replaced);
+        assertEquals(99, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(297, list.get(98));
+        assertEquals(true, list.contains(150));
+        assertEquals(49, list.indexOf(150));
+        assertEquals(-1, list.indexOf(151));
+        assertEquals(list.boxed().sumInt(x -> x), list.sum());
+        assertEquals(IntList.of(-1, 6, 9), IntList.of(list.toArray()).where(x -> x < 10).toList());
+    }
+
+    @Test
+    void fromSequences() {
+        // arrange
+        IEnumerable<Integer> source = IEnumerable.range(5, 5);
+
+        // act
+        IntList actual = source.selectInt(x -> x).toList();
+        IntList actualDistinct = IntEnumerable.of(3, 1, 3, 0, 1, 0).distinct().toList();
+
+        // assert
+        assertEquals(IntList.of(5, 6, 7, 8, 9), actual);
+        assertEquals(source.toList(), actual.boxed().toList());
+        assertEquals(IntList.of(3, 1, 0), actualDistinct);
+        assertEquals("[3, 1, 0]", actualDistinct.toString());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        IntList list = IntList.of(1, 2, 3);
+
+        // act and assert
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.removeAt(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntList(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.addAll(null));
+    }
+}
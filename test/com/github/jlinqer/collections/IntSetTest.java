@@ -0,0 +1,72 @@
+package com.github.jlinqer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks IntSet against java.util.HashSet.
+ */
+class IntSetTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void matchesHashSet() {
+        // arrange
+        IntSet set = new IntSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(21);
+
+        // act
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(1000) - 500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        // assert
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected.size(), set.count());
+        assertEquals(expected.stream().mapToLong(x -> x).sum(), set.selectLong(x -> x).sum());
+        for (int value = -500; value < 500; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    void zero() {
+        // arrange
+        IntSet set = new IntSet(2);
+
+        // act
+        boolean added = set.add(0);
+        boolean addedAgain = set.add(0);
+        set.add(7);
+        int[] actual = set.orderBy().toArray();
+        boolean removed = set.remove(0);
+
+        // assert
+        assertEquals(true, added);
+        assertEquals(false, addedAgain);
+        assertEquals(0, actual[0]);
+        assertEquals(7, actual[1]);
+        assertEquals(true, removed);
+        assertEquals(false, set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void abnormal() {
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntSet(-1));
+    }
+}
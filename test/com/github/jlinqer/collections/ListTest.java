@@ -4,6 +4,7 @@ import com.github.jlinqer.linq.IEnumerable;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.ListIterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -90,4 +91,42 @@ class ListTest {
         assertEquals(true, listIterator.hasNext());
         assertEquals(1, subList.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void linkedListBacked() {
+        // arrange
+        CountingLinkedList<Integer> backing = new CountingLinkedList<>();
+        for (int i = 0; i < 1000; i++) backing.add(i);
+        List<Integer> list = new List<>(backing);
+
+        // act
+        List<Integer> actualSelect = list.select(x -> x * 2).toList();
+        List<Integer> actualReverse = list.reverse().take(3).toList();
+        List<Integer> actualPartition = list.skip(10).take(3).toList();
+        long actualStreamCount = list.select(x -> x).asParallelStream().count();
+        List<Integer> actualOrdered = list.orderByDescending(x -> x).take(2).toList();
+
+        // assert
+        assertEquals(false, list.isRandomAccess());
+        assertEquals(true, new List<>(1, 2).isRandomAccess());
+        assertEquals(1000, actualSelect.size());
+        assertEquals(1998, actualSelect.get(999).intValue());
+        assertEquals(new List<>(999, 998, 997), actualReverse);
+        assertEquals(new List<>(10, 11, 12), actualPartition);
+        assertEquals(1000L, actualStreamCount);
+        assertEquals(new List<>(999, 998), actualOrdered);
+        assertEquals(0, backing.gets);
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private static class CountingLinkedList<T> extends LinkedList<T> {
+        private int gets = 0;
+
+        @Override
+        public T get(int index) {
+            gets++;
+            return super.get(index);
+        }
+    }
+}
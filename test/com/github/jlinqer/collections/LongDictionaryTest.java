@@ -0,0 +1,50 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks LongDictionary with keys that differ only in their high bits.
+ */
+class LongDictionaryTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void functions() {
+        // arrange
+        LongDictionary<Integer> dic = IEnumerable.range(0, 1000).toLongDictionary(x -> (long) x << 32);
+
+        // act
+        Integer removed = dic.remove(500L << 32);
+        Integer removedMissing = dic.remove(500L);
+        Integer replaced = dic.put(0L, -1);
+
+        // assert
+        assertEquals(500, removed.intValue());
+        assertEquals(null, removedMissing);
+        assertEquals(0, replaced.intValue());
+        assertEquals(999, dic.size());
+        assertEquals(999, dic.count());
+        assertEquals(998, dic.get(998L << 32).intValue());
+        assertEquals(false, dic.containsKey(500L << 32));
+        assertEquals((499500L - 500) << 32, dic.getKeys().sum());
+        assertEquals(499500 - 500 - 1, dic.sumInt(Map.Entry::getValue));
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        LongDictionary<Integer> dic = new LongDictionary<>(4);
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> dic.put(1L, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new List<>(1).toLongDictionary(x -> x, null));
+    }
+}
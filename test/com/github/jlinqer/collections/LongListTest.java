@@ -0,0 +1,45 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks LongList against the boxed List it replaces.
+ */
+class LongListTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void functions() {
+        // arrange
+        LongList list = IEnumerable.range(0, 10).selectLong(x -> x * 10_000_000_000L).toList();
+
+        // act
+        long removed = list.removeAt(9);
+        list.add(-1L);
+        list.addAll(LongList.of(7L, 8L));
+
+        // assert
+        assertEquals(90_000_000_000L, removed);
+        assertEquals(12, list.size());
+        assertEquals(-1L, list.get(9));
+        assertEquals(8L, list.get(11));
+        assertEquals(true, list.contains(80_000_000_000L));
+        assertEquals(LongList.of(-1L, 0L, 7L, 8L), list.orderBy().where(x -> x < 10).toList());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        LongList list = new LongList();
+
+        // act and assert
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> LongList.of((long[]) null));
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.jlinqer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks OffHeapList across chunk boundaries, through cursors, the list itself and its columns.
+ */
+class OffHeapListTest {
+// ------------------------------ FIELDS ------------------------------
+
+    private static final RecordLayout LAYOUT = RecordLayout.builder()
+            .addInt("id")
+            .addLong("timestamp")
+            .addDouble("price")
+            .build();
+    private static final int ID = LAYOUT.indexOf("id");
+    private static final int TIMESTAMP = LAYOUT.indexOf("timestamp");
+    private static final int PRICE = LAYOUT.indexOf("price");
+
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void queries() {
+        // arrange
+        OffHeapList list = create(200000);
+
+        // act
+        int actualCount = list.cursors().where(x -> x.getInt(ID) % 2 == 0).count();
+        double actualSum = list.cursors().sumDouble(x -> x.getDouble(PRICE));
+        long actualIdSum = list.intColumn(ID).selectLong(x -> x).sum();
+        long actualMaxTimestamp = list.longColumn("timestamp").max();
+        double actualMinPrice = list.doubleColumn(PRICE).orderBy().toArray()[0];
+        OffHeapList.Cursor actualCheapest = list.minDouble(x -> x.getDouble(PRICE));
+        List<Integer> actualOrdered = list.orderByDescendingDouble(x -> x.getDouble(PRICE)).take(3).select(x -> x.getInt(ID)).toList();
+
+        // assert
+        assertEquals(200000, list.size());
+        assertEquals(100000, actualCount);
+        assertEquals(sumOfPrices(200000), actualSum, 1e-3);
+        assertEquals(200000L * 199999 / 2, actualIdSum);
+        assertEquals(199999L * 1000, actualMaxTimestamp);
+        assertEquals(0d, actualMinPrice);
+        assertEquals(0, actualCheapest.getInt("id"));
+        assertEquals(new List<>(999, 1999, 2999), actualOrdered);
+        assertEquals("#7{id=7, timestamp=7000, price=0.07}", list.get(7).toString());
+    }
+
+    @Test
+    void cursors() {
+        // arrange
+        OffHeapList list = create(10);
+
+        // act
+        Iterator<OffHeapList.Cursor> iterator = list.cursors().iterator();
+        OffHeapList.Cursor first = iterator.next();
+        OffHeapList.Cursor kept = first.copy();
+        iterator.next();
+        list.get(3).setDouble("price", 42d).setLong(TIMESTAMP, -1L);
+
+        // assert
+        assertEquals(1, first.getIndex());
+        assertEquals(0, kept.getIndex());
+        assertEquals(list.get(0), kept);
+        assertEquals(42d, list.get(3).getDouble(PRICE));
+        assertEquals(-1L, list.get(3).getLong("timestamp"));
+        assertEquals(10, list.toList().distinct().count());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        OffHeapList list = create(1);
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> list.get(0).getLong(ID));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.intColumn("price"));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.get(0).getInt("name"));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapList(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> RecordLayout.builder().addInt("id").addLong("id"));
+    }
+
+    private static OffHeapList create(int count) {
+        OffHeapList list = new OffHeapList(LAYOUT, count / 2);
+        for (int i = 0; i < count; i++) {
+            list.add().setInt(ID, i).setLong(TIMESTAMP, i * 1000L).setDouble(PRICE, i % 1000 / 100d);
+        }
+        return list;
+    }
+
+    private static double sumOfPrices(int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) sum += i % 1000 / 100d;
+        return sum;
+    }
+}
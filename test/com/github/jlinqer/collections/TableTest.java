@@ -0,0 +1,114 @@
+package com.github.jlinqer.collections;
+
+import com.github.jlinqer.linq.IEnumerable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks Table against the same queries run row by row over its source.
+ */
+class TableTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void columnQueries() {
+        // arrange
+        List<Order> orders = IEnumerable.range(0, 1000).select(Order::new).toList();
+        Table table = create(orders);
+
+        // act
+        Table actualFiltered = table.whereInt("quantity", x -> x > 3).where("region", x -> x.equals("EU"));
+        double actualSum = actualFiltered.sumDouble("price");
+        int actualQuantity = actualFiltered.sumInt("quantity");
+        long actualIds = actualFiltered.sumLong("id");
+        Dictionary<String, Table> actualGroups = table.whereDouble("price", x -> x < 50).groupBy("region");
+        List<String> actualRegions = table.whereLong("id", x -> x >= 998).<String>column("region").toList();
+
+        // assert
+        IEnumerable<Order> expected = orders.where(x -> x.quantity > 3 && x.region.equals("EU"));
+        assertEquals(expected.count(), actualFiltered.size());
+        assertEquals(expected.sumDouble(x -> x.price), actualSum, 1e-9);
+        assertEquals(expected.sumInt(x -> x.quantity), actualQuantity);
+        assertEquals(expected.sumLong(x -> x.id), actualIds);
+        assertEquals(3, actualGroups.size());
+        assertEquals(orders.where(x -> x.price < 50 && x.region.equals("US")).sumDouble(x -> x.price),
+                actualGroups.get("US").sumDouble("price"), 1e-9);
+        assertEquals(new List<>("APAC", "EU"), actualRegions);
+    }
+
+    @Test
+    void rows() {
+        // arrange
+        Table table = create(IEnumerable.range(0, 10).select(Order::new).toList());
+
+        // act
+        Table actualView = table.whereInt("quantity", x -> x == 2).project("region", "id");
+        List<Long> actualIds = actualView.select(x -> x.getLong("id")).toList();
+        Table.Row actualRow = actualView.get(1);
+        int actualMaxQuantity = table.intColumn("quantity").max();
+        double actualMaxPrice = table.doubleColumn("price").max();
+
+        // assert
+        assertEquals(new List<>(2L, 9L), actualIds);
+        assertEquals("{region=EU, id=9}", actualRow.toString());
+        assertEquals("EU", actualRow.<String>get("region"));
+        assertEquals(2, actualView.columnCount());
+        assertEquals(Table.ColumnType.LONG, actualView.typeOf(1));
+        assertEquals(6, actualMaxQuantity);
+        assertEquals(4.5, actualMaxPrice);
+        assertEquals(0, table.whereDouble("price", x -> x < 0).count());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        Table table = create(IEnumerable.range(0, 10).select(Order::new).toList());
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> Table.from(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> Table.from(new List<Order>()).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> Table.from(new List<Order>()).intColumn("id", x -> x.quantity).longColumn("id", x -> x.id));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.sumInt("missing"));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.sumInt("price"));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.whereInt("quantity", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.get(0).getDouble("region"));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> table.get(10));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> table.nameOf(4));
+    }
+
+    private static Table create(List<Order> orders) {
+        return Table.from(orders)
+                .longColumn("id", x -> x.id)
+                .intColumn("quantity", x -> x.quantity)
+                .doubleColumn("price", x -> x.price)
+                .column("region", x -> x.region)
+                .build();
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private static class Order {
+        private final long id;
+        private final int quantity;
+        private final double price;
+        private final String region;
+
+        Order(int id) {
+            this.id = id;
+            this.quantity = id % 7;
+            this.price = id * 0.5;
+            this.region = (id % 3 == 0) ? "EU" : (id % 3 == 1) ? "US" : "APAC";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DoubleEnumerableTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void aggregates() {
+        // arrange
+        DoubleEnumerable source = DoubleEnumerable.of(1.5, -2, 4, 0.5);
+
+        // act and assert
+        assertEquals(4d, source.sum());
+        assertEquals(1d, source.average());
+        assertEquals(4d, source.max());
+        assertEquals(-2d, source.min());
+        assertEquals(Double.NaN, DoubleEnumerable.of(1, Double.NaN).max());
+        assertThrows(UnsupportedOperationException.class,
+                () -> DoubleEnumerable.of().average());
+    }
+
+    @Test
+    void operators() {
+        // arrange
+        DoubleEnumerable source = DoubleEnumerable.of(0.0, 2.5, -0.0, 2.5, Double.NaN, Double.NaN, -1);
+
+        // act
+        double[] actualDistinct = source.distinct().toArray();
+        double[] actualOrderBy = source.where(x -> !Double.isNaN(x)).orderBy().toArray();
+        long[] actualLong = source.where(x -> x > 0).selectLong(Math::round).toArray();
+        int[] actualInt = source.selectInt(x -> (int) x).distinct().toArray();
+        List<Double> actualBoxed = source.select(x -> x * 2).boxed().skip(5).toList();
+
+        // assert
+        assertArrayEquals(new double[]{0.0, 2.5, -0.0, Double.NaN, -1}, actualDistinct);
+        assertArrayEquals(new double[]{-1, -0.0, 0.0, 2.5, 2.5}, actualOrderBy);
+        assertArrayEquals(new long[]{3, 3}, actualLong);
+        assertArrayEquals(new int[]{0, 2, -1}, actualInt);
+        assertEquals(new List<>(Double.NaN, -2.0), actualBoxed);
+    }
+}
@@ -3,7 +3,12 @@ package com.github.jlinqer.linq;
 import com.github.jlinqer.collections.List;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -126,7 +131,7 @@ class IEnumerableAbnomalTest {
                 () -> list.cast(null));
 
         assertThrows(UnsupportedOperationException.class,
-                () -> list.cast(Integer.class));
+                () -> list.cast(Integer.class).toList());
     }
 
     @Test
@@ -229,6 +234,15 @@ class IEnumerableAbnomalTest {
         // act and assert
         assertThrows(IllegalArgumentException.class,
                 () -> list.groupBy(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.groupBy(null, x -> x.age));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.groupBy(x -> x.age, (Function<Javascript, Integer>) null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.groupBy(x -> x.age, (BiFunction<Integer, IEnumerable<Javascript>, Integer>) null));
     }
 
     @Test
@@ -339,6 +353,57 @@ class IEnumerableAbnomalTest {
                 () -> list.ofType(null));
     }
 
+    @Test
+    void from_abnormal() {
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.from(null));
+    }
+
+    @Test
+    void generate_abnormal() {
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.generate(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.iterate(1, null));
+    }
+
+    @Test
+    void lines_abnormal() throws IOException {
+        // arrange
+        Path path = Files.createTempFile("jlinqer", ".txt");
+        path.toFile().deleteOnExit();
+        Files.write(path, "1,x,3000000000\n".getBytes(StandardCharsets.UTF_8));
+        Path missing = path.resolveSibling(path.getFileName() + ".missing");
+        Path nullPath = null;
+        DelimitedRecord record = IEnumerable.records(path, ',').first();
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.lines(nullPath));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.lines(path, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.lines(path, StandardCharsets.UTF_16));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.records(nullPath, ','));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.records(path, '\n'));
+        assertThrows(IllegalArgumentException.class,
+                () -> IEnumerable.records(path, '\u00e9'));
+        assertThrows(UncheckedIOException.class,
+                () -> IEnumerable.lines(missing).count());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> record.get(3));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> record.get(-1));
+        assertThrows(NumberFormatException.class,
+                () -> record.getInt(1));
+        assertThrows(NumberFormatException.class,
+                () -> record.getInt(2));
+    }
+
     @Test
     void orderByDescending_abnormal() {
         // arrange
@@ -359,6 +424,26 @@ class IEnumerableAbnomalTest {
                 () -> list.orderBy(null));
     }
 
+    @Test
+    void orderByPrimitiveKeys_abnormal() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React");
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByInt(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByDescendingLong(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByDouble(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByDescendingString(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByInt(String::length).thenByString(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.orderByInt(String::length).thenByDescendingDouble(null));
+    }
+
     @Test
     void range_abnormal() {
         // act and assert
@@ -387,6 +472,15 @@ class IEnumerableAbnomalTest {
         // act and assert
         assertThrows(IllegalArgumentException.class,
                 () -> list.select(null));
+
+        assertThrows(ArithmeticException.class,
+                () -> new List<>(1, 0, 2).select(x -> 10 / x).count());
+
+        assertThrows(ArithmeticException.class,
+                () -> new List<>(1, 0, 2).skipWhile(x -> x > 1).select(x -> 10 / x).longCount());
+
+        assertThrows(ArithmeticException.class,
+                () -> new List<>(1, 0, 2).where(x -> x < 2).select(x -> 10 / x).count());
     }
 
     @Test
@@ -397,6 +491,12 @@ class IEnumerableAbnomalTest {
         // act and assert
         assertThrows(IllegalArgumentException.class,
                 () -> list.sequenceEqual(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.sequenceEqual(null, String::equals));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.sequenceEqual(list, null));
     }
 
     @Test
@@ -458,6 +558,77 @@ class IEnumerableAbnomalTest {
                 () -> listBigDecimal.sumBigDecimal(null));
     }
 
+    @Test
+    void sumPrimitiveSelectors_abnormal() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3);
+        IntSelector<Integer> intSelector = null;
+        LongSelector<Integer> longSelector = null;
+        DoubleSelector<Integer> doubleSelector = null;
+        IndexedPredicate<Integer> predicate = null;
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> list.sumInt(intSelector));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.averageLong(longSelector));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.sumDouble(doubleSelector));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.maxInt(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.minDouble(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.where(predicate));
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> new List<Integer>().maxLong(x -> x));
+
+        assertThrows(ArithmeticException.class,
+                () -> new List<>(Integer.MAX_VALUE, 1).sumInt(x -> x));
+    }
+
+    @Test
+    void stats_abnormal() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3);
+        DoubleStatistics empty = new List<Integer>().stats(x -> x);
+        Aggregator<Integer, Integer, Integer> count = Aggregator.of(() -> 0, (acc, x) -> acc + 1);
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> list.stats(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.statsLong(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.statsBigDecimal(null));
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> empty.getMean());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> new List<Integer>().statsBigDecimal(x -> BigDecimal.ONE).getMax());
+
+        assertThrows(ArithmeticException.class,
+                () -> new List<>(Long.MAX_VALUE, 1L).statsLong(x -> x));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.aggregateAll(new List<>(count, null)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.aggregateAll(new List<>(count)).get(Aggregator.of(() -> 0, (acc, x) -> acc)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Aggregator.of(() -> 0, null));
+    }
+
     @Test
     void sum_overflow() {
         // arrange
@@ -541,6 +712,19 @@ class IEnumerableAbnomalTest {
                 () -> list.toDictionary(x -> x.contains("c"), null));
     }
 
+    @Test
+    void toLookup_abnormal() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React");
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> list.toLookup(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.toLookup(x -> x.charAt(0), null));
+    }
+
     @Test
     void union_abnormal() {
         // arrange
@@ -560,6 +744,12 @@ class IEnumerableAbnomalTest {
         // act and assert
         assertThrows(IllegalArgumentException.class,
                 () -> list.where(predicate));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.where(x -> x > 1).where(predicate));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.where(x -> x > 1).select(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.where(x -> x > 1).select(x -> x).select(null));
     }
 
     @Test
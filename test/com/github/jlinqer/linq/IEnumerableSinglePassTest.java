@@ -0,0 +1,303 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that element, quantifier and aggregate operators walk their source at most once.
+ */
+class IEnumerableSinglePassTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void aggregate() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3);
+
+        // act
+        int actual = source.aggregate((sum, elem) -> sum + elem);
+
+        // assert
+        assertEquals(6, actual);
+        assertEquals(1, source.enumerations);
+        assertEquals(3, source.pulled);
+    }
+
+    @Test
+    void aggregateAll() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4);
+        Aggregator<Integer, Integer, Integer> sum = Aggregator.of(() -> 0, (acc, x) -> acc + x);
+        Aggregator<Integer, int[], String> range = Aggregator.of(
+                () -> new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE},
+                (acc, x) -> new int[]{Math.min(acc[0], x), Math.max(acc[1], x)},
+                acc -> acc[0] + ".." + acc[1]);
+
+        // act
+        AggregateResults actual = source.aggregateAll(new List<>(sum, range));
+        DoubleStatistics actualStats = source.stats(x -> x);
+
+        // assert
+        assertEquals(10, (int) actual.get(sum));
+        assertEquals("1..4", actual.get(range));
+        assertEquals(4, actualStats.getCount());
+        assertEquals(2, source.enumerations);
+        assertEquals(8, source.pulled);
+    }
+
+    @Test
+    void average() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4);
+
+        // act
+        double actualInt = source.averageInt(x -> x);
+        double actualLong = source.averageLong(x -> (long) x);
+        double actualDouble = source.averageDouble(x -> (double) x);
+        BigDecimal actualBigDecimal = source.averageBigDecimal(x -> new BigDecimal(x));
+
+        // assert
+        assertEquals(2.5d, actualInt);
+        assertEquals(2.5d, actualLong);
+        assertEquals(2.5d, actualDouble);
+        assertEquals(2.5d, actualBigDecimal.doubleValue());
+        assertEquals(4, source.enumerations);
+        assertEquals(16, source.pulled);
+    }
+
+    @Test
+    void cast() {
+        // arrange
+        CountingEnumerable<Object> source = new CountingEnumerable<>(1, 2, 3);
+
+        // act
+        IEnumerable<Integer> actual = source.cast(Integer.class);
+        int enumerationsBeforeEnumeration = source.enumerations;
+        List<Integer> actualList = actual.toList();
+
+        // assert
+        assertEquals(new List<>(1, 2, 3), actualList);
+        assertEquals(0, enumerationsBeforeEnumeration);
+        assertEquals(1, source.enumerations);
+    }
+
+    @Test
+    void defaultIfEmpty() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3);
+        CountingEnumerable<Integer> sourceEmpty = new CountingEnumerable<>();
+
+        // act
+        IEnumerable<Integer> actual = source.defaultIfEmpty(0);
+        IEnumerable<Integer> actualEmpty = sourceEmpty.defaultIfEmpty(0);
+        int enumerationsBeforeQuery = source.enumerations + sourceEmpty.enumerations;
+        List<Integer> actualList = actual.toList();
+        List<Integer> actualEmptyList = actualEmpty.toList();
+
+        // assert
+        assertEquals(0, enumerationsBeforeQuery);
+        assertEquals(3, actualList.size());
+        assertEquals(0, actualEmptyList.get(0).intValue());
+        assertEquals(1, source.enumerations);
+        assertEquals(1, sourceEmpty.enumerations);
+    }
+
+    @Test
+    void elementAt() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4, 5);
+
+        // act
+        int actual = source.elementAt(1);
+        Integer actualDefault = source.elementAtOrDefault(7);
+
+        // assert
+        assertEquals(2, actual);
+        assertEquals(null, actualDefault);
+        assertEquals(2, source.enumerations);
+        assertEquals(7, source.pulled);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> source.elementAt(5));
+    }
+
+    @Test
+    void first() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4, 5);
+
+        // act
+        int actual = source.first();
+        int actualPredicate = source.first(x -> x == 2);
+
+        // assert
+        assertEquals(1, actual);
+        assertEquals(2, actualPredicate);
+        assertEquals(2, source.enumerations);
+        assertEquals(3, source.pulled);
+    }
+
+    @Test
+    void last() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3);
+
+        // act
+        int actual = source.last();
+        int actualPredicate = source.last(x -> x < 3);
+        Integer actualDefault = source.lastOrDefault(x -> x > 3);
+
+        // assert
+        assertEquals(3, actual);
+        assertEquals(2, actualPredicate);
+        assertEquals(null, actualDefault);
+        assertEquals(3, source.enumerations);
+        assertEquals(9, source.pulled);
+    }
+
+    @Test
+    void minMax() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(3, 1, 2);
+        int[] selected = {0};
+
+        // act
+        int actualMax = source.max(x -> {
+            selected[0]++;
+            return x;
+        });
+        int actualMin = source.min(x -> {
+            selected[0]++;
+            return x;
+        });
+
+        // assert
+        assertEquals(3, actualMax);
+        assertEquals(1, actualMin);
+        assertEquals(2, source.enumerations);
+        assertEquals(6, selected[0]);
+    }
+
+    @Test
+    void orderBy() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(3, 1, 2, 5, 4);
+        IEnumerable<Integer> query = source.orderBy(x -> x);
+
+        // act
+        List<Integer> actualList = query.toList();
+        int actualFirst = query.first();
+        List<Integer> actualTake = query.take(2).toList();
+        int enumerationsBeforeIteration = source.enumerations;
+        Iterator<Integer> iterator = query.iterator();
+        int actualNext = iterator.next();
+
+        // assert
+        assertEquals(new List<>(1, 2, 3, 4, 5), actualList);
+        assertEquals(1, actualFirst);
+        assertEquals(new List<>(1, 2), actualTake);
+        assertEquals(3, enumerationsBeforeIteration);
+        assertEquals(1, actualNext);
+        assertEquals(4, source.enumerations);
+        assertEquals(20, source.pulled);
+    }
+
+    @Test
+    void sequenceEqual() {
+        // arrange
+        CountingEnumerable<Integer> first = new CountingEnumerable<>(1, 2, 3, 4, 5);
+        CountingEnumerable<Integer> second = new CountingEnumerable<>(1, 9, 3, 4, 5);
+
+        // act
+        boolean actual = first.sequenceEqual(second);
+
+        // assert
+        assertEquals(false, actual);
+        assertEquals(1, first.enumerations);
+        assertEquals(1, second.enumerations);
+        assertEquals(2, first.pulled);
+        assertEquals(2, second.pulled);
+    }
+
+    @Test
+    void single() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4, 5);
+
+        // act and assert
+        assertThrows(UnsupportedOperationException.class,
+                () -> source.single());
+        assertThrows(UnsupportedOperationException.class,
+                () -> source.singleOrDefault());
+        assertEquals(2, source.enumerations);
+        assertEquals(2, source.pulled);
+    }
+
+    @Test
+    void whereChain() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4, 5);
+        IEnumerable<Integer> query = source.where(x -> x % 2 == 0).select(x -> x * 10);
+
+        // act
+        int actual = query.first();
+
+        // assert
+        assertEquals(20, actual);
+        assertEquals(1, source.enumerations);
+        assertEquals(2, source.pulled);
+    }
+
+    @Test
+    void anyAll() {
+        // arrange
+        CountingEnumerable<Integer> source = new CountingEnumerable<>(1, 2, 3, 4, 5);
+
+        // act
+        boolean actualAny = source.any(x -> x == 2);
+        boolean actualAll = source.all(x -> x < 2);
+
+        // assert
+        assertTrue(actualAny);
+        assertEquals(false, actualAll);
+        assertEquals(2, source.enumerations);
+        assertEquals(4, source.pulled);
+    }
+
+// -------------------------- INNER CLASSES --------------------------
+
+    private static class CountingEnumerable<TSource> implements IEnumerable<TSource> {
+        private final List<TSource> items;
+        int enumerations = 0;
+        int pulled = 0;
+
+        @SafeVarargs
+        CountingEnumerable(TSource... items) {
+            this.items = new List<>(items);
+        }
+
+        @Override
+        public Iterator<TSource> iterator() {
+            enumerations++;
+            final Iterator<TSource> iterator = items.iterator();
+            return new Iterator<TSource>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public TSource next() {
+                    pulled++;
+                    return iterator.next();
+                }
+            };
+        }
+    }
+}
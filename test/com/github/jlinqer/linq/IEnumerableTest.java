@@ -4,11 +4,20 @@ import com.github.jlinqer.collections.Dictionary;
 import com.github.jlinqer.collections.List;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -224,6 +233,70 @@ class IEnumerableTest {
         assertEquals(2, actual.get(0).intValue());
     }
 
+    @Test
+    void explain() {
+        // arrange
+        List<Integer> list = new List<>(5, 3, 8, 1, 9, 2);
+
+        // act
+        QueryPlan actualFused = list.where(x -> x > 1).where(x -> x < 9).select(x -> x * 2).explain();
+        QueryPlan actualTopK = list.orderBy(x -> x).thenByDescending(x -> x).take(2).explain();
+        QueryPlan actualJoin = list.join(list, x -> x, y -> y, (x, y) -> x).skip(1).explain();
+        QueryPlan actualGroupBy = list.groupBy(x -> x % 2, x -> x).explain();
+
+        // assert
+        assertEquals("WhereSelect(2 predicates)\n  Source(List)", actualFused.toString());
+        assertEquals("TopK", actualTopK.getOperator());
+        assertEquals("2, 2 keys", actualTopK.getDetail());
+        assertEquals("Skip(1)\n  Join\n    Source(List)\n    Source(List)", actualJoin.toString());
+        assertEquals(2, actualJoin.getChildren().get(0).getChildren().size());
+        assertEquals("GroupBy\n  Source(List)", actualGroupBy.toString());
+    }
+
+    @Test
+    void explainRewrites() {
+        // arrange
+        List<Integer> list = new List<>(5, 3, 8, 1, 9, 2);
+        int[] projected = {0};
+        int[] keys = {0};
+        IEnumerable<Integer> projection = list.where(x -> x > 2).select(x -> {
+            projected[0]++;
+            return x;
+        });
+        IEnumerable<Integer> ordered = list.orderBy(x -> {
+            keys[0]++;
+            return x;
+        });
+
+        // act
+        int actualCount = projection.count();
+        int actualProjectedByCount = projected[0];
+        List<Integer> actualProjection = projection.toList();
+        int actualOrderedCount = ordered.count();
+        boolean actualOrderedAny = ordered.any(x -> x > 8);
+        int actualKeysBeforeEnumeration = keys[0];
+        List<Integer> actualOrdered = ordered.toList();
+        int actualOrderedSum = ordered.sumInt(x -> x);
+        int actualOrderedOverflowingSum = new List<>(Integer.MAX_VALUE, 1, -1).orderBy(x -> x).sumInt(x -> x);
+        int actualStreamedCount = list.skipWhile(x -> x > 4).select(x -> {
+            projected[0]++;
+            return x;
+        }).reverse().count();
+
+        // assert
+        assertEquals(4, actualCount);
+        assertEquals(4, actualProjectedByCount);
+        assertEquals(new List<>(5, 3, 8, 9), actualProjection);
+        assertEquals(6, actualOrderedCount);
+        assertEquals(true, actualOrderedAny);
+        assertEquals(0, actualKeysBeforeEnumeration);
+        assertEquals(new List<>(1, 2, 3, 5, 8, 9), actualOrdered);
+        assertEquals(28, actualOrderedSum);
+        assertEquals(Integer.MAX_VALUE, actualOrderedOverflowingSum);
+        assertEquals(5, actualStreamedCount);
+        assertEquals(13, projected[0]);
+    }
+
     @Test
     void first() {
         // arrange
@@ -287,6 +360,34 @@ class IEnumerableTest {
         assertEquals(true, actual.get(5).any(x -> x.name.equals("Backbone")));
     }
 
+    @Test
+    void groupByGroupings() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React", "Aurelia", "Riot", "Amber");
+        int[] keys = {0};
+
+        // act
+        IEnumerable<IGrouping<Character, Integer>> actual = list.groupBy(x -> {
+            keys[0]++;
+            return x.charAt(0);
+        }, String::length);
+        int keysBeforeEnumeration = keys[0];
+        List<IGrouping<Character, Integer>> actualList = actual.toList();
+        List<String> actualResult = list.groupBy(x -> x.charAt(0), (key, xs) -> key + ":" + xs.count()).toList();
+
+        // assert
+        assertEquals(0, keysBeforeEnumeration);
+        assertEquals(6, keys[0]);
+        assertEquals(3, actualList.size());
+        assertEquals('B', actualList.get(0).getKey().charValue());
+        assertEquals('A', actualList.get(1).getKey().charValue());
+        assertEquals(3, actualList.get(1).count());
+        assertEquals(5, actualList.get(1).last().intValue());
+        assertEquals("B:1", actualResult.get(0));
+        assertEquals("A:3", actualResult.get(1));
+        assertEquals("R:2", actualResult.get(2));
+    }
+
     @Test
     void groupJoin() {
         // arrange
@@ -390,6 +491,40 @@ class IEnumerableTest {
         assertEquals(6, actual.get(2).age);
     }
 
+    @Test
+    void joinKeysComputedOnce() {
+        // arrange
+        List<Integer> outer = new List<>(1, 2, 3, 4, 2);
+        List<Integer> inner = new List<>(2, 4, 2, 5, 6);
+        int[] innerKeys = {0};
+        int[] outerKeys = {0};
+
+        // act
+        IEnumerable<String> query = outer.join(inner,
+                x -> {
+                    outerKeys[0]++;
+                    return x;
+                },
+                y -> {
+                    innerKeys[0]++;
+                    return y;
+                },
+                (x, y) -> x + ":" + y);
+        String actualFirst = query.first();
+        int outerKeysFirst = outerKeys[0];
+        List<String> actual = query.toList();
+
+        // assert
+        assertEquals("2:2", actualFirst);
+        assertEquals(2, outerKeysFirst);
+        assertEquals(5, actual.size());
+        assertEquals("2:2", actual.get(0));
+        assertEquals("2:2", actual.get(1));
+        assertEquals("4:4", actual.get(2));
+        assertEquals("2:2", actual.get(3));
+        assertEquals(10, innerKeys[0]);
+    }
+
     @Test
     void last() {
         // arrange
@@ -474,6 +609,28 @@ class IEnumerableTest {
         assertEquals(1d, actualBigDecimal.doubleValue());
     }
 
+    @Test
+    void maxMinPrimitiveKeys() {
+        // arrange
+        List<String> list = new List<>("React", "Angular", "Vue", "Backbone", "Ember");
+
+        // act
+        String actualMaxInt = list.maxInt(String::length);
+        String actualMinInt = list.minInt(String::length);
+        String actualMaxLong = list.maxLong(x -> -x.length());
+        String actualMinLong = list.minLong(x -> (long) x.charAt(0));
+        String actualMaxDouble = list.maxDouble(x -> x.length() / 2d);
+        String actualMinDouble = list.minDouble(x -> x.length() % 5 / 2d);
+
+        // assert
+        assertEquals("Backbone", actualMaxInt);
+        assertEquals("Vue", actualMinInt);
+        assertEquals("Vue", actualMaxLong);
+        assertEquals("Angular", actualMinLong);
+        assertEquals("Backbone", actualMaxDouble);
+        assertEquals("React", actualMinDouble);
+    }
+
     @Test
     void ofType() {
         // arrange
@@ -504,6 +661,23 @@ class IEnumerableTest {
         assertEquals("React", actual.get(2));
     }
 
+    @Test
+    void orderBySnapshotsSource() {
+        // arrange
+        List<Integer> list = new List<>(3, 5, 1, 4, 2);
+        List<Integer> actual = new List<>();
+
+        // act
+        for (int item : list.orderBy(x -> x)) {
+            actual.add(item);
+            list.remove(Integer.valueOf(item));
+        }
+
+        // assert
+        assertEquals(new List<>(1, 2, 3, 4, 5), actual);
+        assertEquals(0, list.size());
+    }
+
     @Test
     void orderByDescending() {
         // arrange
@@ -532,6 +706,246 @@ class IEnumerableTest {
         assertEquals(1, actual.get(2).age);
     }
 
+    @Test
+    void orderByPrimitiveKeys() {
+        // arrange
+        List<Integer> list = new List<>(3, Integer.MIN_VALUE, -1, 3, Integer.MAX_VALUE, 0);
+        List<Double> doubles = new List<>(0.5, Double.NaN, -0.0, Double.NEGATIVE_INFINITY, 0.0, -2.5);
+
+        // act
+        List<Integer> actualInt = list.orderByInt(x -> x).toList();
+        List<Integer> actualIntDescending = list.orderByDescendingInt(x -> x).toList();
+        List<Integer> actualLong = list.orderByLong(x -> (long) x * 3).toList();
+        List<Integer> actualLongDescending = list.orderByDescendingLong(x -> (long) x * 3).toList();
+        List<Double> actualDouble = doubles.orderByDouble(x -> x).toList();
+        List<Double> actualDoubleDescending = doubles.orderByDescendingDouble(x -> x).toList();
+        List<Integer> actualString = list.orderByString(x -> x == 0 ? null : String.valueOf(x)).toList();
+
+        // assert
+        assertEquals(new List<>(Integer.MIN_VALUE, -1, 0, 3, 3, Integer.MAX_VALUE), actualInt);
+        assertEquals(new List<>(Integer.MAX_VALUE, 3, 3, 0, -1, Integer.MIN_VALUE), actualIntDescending);
+        assertEquals(actualInt, actualLong);
+        assertEquals(actualIntDescending, actualLongDescending);
+        assertEquals(new List<>(Double.NEGATIVE_INFINITY, -2.5, -0.0, 0.0, 0.5, Double.NaN), actualDouble);
+        assertEquals(new List<>(Double.NaN, 0.5, 0.0, -0.0, -2.5, Double.NEGATIVE_INFINITY), actualDoubleDescending);
+        assertEquals(new List<>(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 3, 3), actualString);
+    }
+
+    @Test
+    void orderByPrimitiveKeysMatchesComparable() {
+        // arrange
+        Random random = new Random(8);
+        List<int[]> list = new List<>();
+        for (int i = 0; i < 1000; i++) list.add(new int[]{random.nextInt(20), random.nextInt(50) - 25, i});
+
+        // act
+        List<int[]> expected = list.orderBy(x -> x[0]).thenByDescending(x -> x[1]).toList();
+        List<int[]> actualInt = list.orderByInt(x -> x[0]).thenByDescendingInt(x -> x[1]).toList();
+        List<int[]> actualLong = list.orderByLong(x -> x[0]).thenByDescendingLong(x -> x[1]).toList();
+        List<int[]> actualDouble = list.orderByDouble(x -> x[0]).thenByDescendingDouble(x -> x[1]).toList();
+        List<int[]> actualMixed = list.orderBy(x -> x[0]).thenByDescendingInt(x -> x[1]).toList();
+        List<int[]> actualSingle = list.orderByDescendingLong(x -> x[1]).toList();
+        List<int[]> expectedSingle = list.orderByDescending(x -> x[1]).toList();
+
+        // assert
+        assertEquals(expected, actualInt);
+        assertEquals(expected, actualLong);
+        assertEquals(expected, actualDouble);
+        assertEquals(expected, actualMixed);
+        assertEquals(expectedSingle, actualSingle);
+    }
+
+    @Test
+    void orderByRadix() {
+        // arrange
+        Random random = new Random(9);
+        List<Object[]> list = new List<>();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder name = new StringBuilder("id-");
+            for (int j = random.nextInt(4); j >= 0; j--) name.append((char) ('a' + random.nextInt(3)));
+            if (random.nextInt(10) == 0) name.append('あ');
+            list.add(new Object[]{random.nextInt(100) - 50, random.nextLong() >> random.nextInt(64), name.toString(), i});
+        }
+        java.util.List<Object[]> byInt = new java.util.ArrayList<>(list);
+        byInt.sort((x, y) -> Integer.compare((Integer) y[0], (Integer) x[0]));
+        java.util.List<Object[]> byLong = new java.util.ArrayList<>(list);
+        byLong.sort((x, y) -> Long.compare((Long) x[1], (Long) y[1]));
+        java.util.List<Object[]> byString = new java.util.ArrayList<>(list);
+        byString.sort((x, y) -> ((String) x[2]).compareTo((String) y[2]));
+        java.util.List<Object[]> byStringDescending = new java.util.ArrayList<>(list);
+        byStringDescending.sort((x, y) -> ((String) y[2]).compareTo((String) x[2]));
+        java.util.List<Object[]> byStringThenInt = new java.util.ArrayList<>(list);
+        byStringThenInt.sort((x, y) -> {
+            int c = ((String) x[2]).compareTo((String) y[2]);
+            return (c != 0) ? c : Integer.compare((Integer) x[0], (Integer) y[0]);
+        });
+
+        // act
+        List<Object[]> actualInt = list.orderByDescending(x -> (Integer) x[0]).toList();
+        List<Object[]> actualPrimitiveInt = list.orderByDescendingInt(x -> (Integer) x[0]).toList();
+        List<Object[]> actualLong = list.orderBy(x -> (Long) x[1]).toList();
+        List<Object[]> actualPrimitiveLong = list.orderByLong(x -> (Long) x[1]).toList();
+        List<Object[]> actualString = list.orderBy(x -> (String) x[2]).toList();
+        List<Object[]> actualStringDescending = list.orderByDescendingString(x -> (String) x[2]).toList();
+        List<Object[]> actualStringThenInt = list.orderBy(x -> (String) x[2]).thenBy(x -> (Integer) x[0]).toList();
+        List<Object[]> actualPrimitiveStringThenInt = list.orderByString(x -> (String) x[2]).thenByInt(x -> (Integer) x[0]).toList();
+
+        // assert
+        assertEquals(byInt, actualInt);
+        assertEquals(byInt, actualPrimitiveInt);
+        assertEquals(byLong, actualLong);
+        assertEquals(byLong, actualPrimitiveLong);
+        assertEquals(byString, actualString);
+        assertEquals(byStringDescending, actualStringDescending);
+        assertEquals(byStringThenInt, actualStringThenInt);
+        assertEquals(byStringThenInt, actualPrimitiveStringThenInt);
+    }
+
+    @Test
+    void orderByPartial() {
+        // arrange
+        Random random = new Random(10);
+        List<double[]> list = new List<>();
+        for (int i = 0; i < 3000; i++) list.add(new double[]{random.nextInt(200), random.nextInt(3)});
+        IEnumerable<double[]> query = list.orderByDescending(x -> x[0]).thenBy(x -> x[1]);
+        List<double[]> expected = query.toList();
+        List<double[]> iterated = new List<>();
+        for (double[] item : query) iterated.add(item);
+
+        // act
+        double[] actualFirst = query.first();
+        double[] actualLast = query.lastOrDefault();
+        double[] actualElementAt = query.elementAt(1234);
+        List<double[]> actualTake = query.take(100).toList();
+        List<double[]> actualTakeAll = query.take(5000).toList();
+        List<double[]> actualSkipTake = query.skip(40).take(30).toList();
+
+        // assert
+        assertEquals(expected, iterated);
+        assertEquals(expected.get(0), actualFirst);
+        assertEquals(expected.get(2999), actualLast);
+        assertEquals(expected.get(1234), actualElementAt);
+        assertEquals(expected.subList(0, 100), actualTake);
+        assertEquals(expected, actualTakeAll);
+        assertEquals(expected.subList(40, 70), actualSkipTake);
+        assertEquals(0, query.take(0).count());
+        assertEquals(null, list.where(x -> false).orderBy(x -> x[0]).firstOrDefault());
+    }
+
+    @Test
+    void asStream() {
+        // arrange
+        List<Integer> list = IEnumerable.range(0, 1000);
+
+        // act
+        Spliterator<Integer> actualList = list.spliterator();
+        Spliterator<Integer> actualSelect = list.select(x -> x * 2).spliterator();
+        Spliterator<Integer> actualWhere = list.where(x -> x > 10).spliterator();
+        Spliterator<Integer> actualPrefix = actualSelect.trySplit();
+        long actualSum = list.select(x -> (long) x).asParallelStream().mapToLong(x -> x).sum();
+        java.util.List<Integer> actualCollected = list.skip(995).asStream().collect(Collectors.toList());
+
+        // assert
+        assertEquals(true, actualList.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(500, actualSelect.estimateSize());
+        assertEquals(500, actualPrefix.getExactSizeIfKnown());
+        assertEquals(-1, actualWhere.getExactSizeIfKnown());
+        assertEquals(499500, actualSum);
+        assertEquals(Arrays.asList(995, 996, 997, 998, 999), actualCollected);
+    }
+
+    @Test
+    void from() {
+        // arrange
+        int[] pulled = {0};
+        Stream<Integer> stream = Stream.iterate(1, x -> x + 1).peek(x -> pulled[0]++);
+
+        // act
+        IEnumerable<Integer> actual = IEnumerable.from(stream).where(x -> x % 2 == 0);
+        int pulledBeforeEnumeration = pulled[0];
+        List<Integer> actualTake = actual.take(3).toList();
+
+        // assert
+        assertEquals(0, pulledBeforeEnumeration);
+        assertEquals(new List<>(2, 4, 6), actualTake);
+        assertEquals(6, pulled[0]);
+    }
+
+    @Test
+    void lines() throws IOException {
+        // arrange
+        Path path = temporaryFile("alpha\r\nbeta\n\ngamma");
+        Path empty = temporaryFile("");
+
+        // act
+        List<String> actual = IEnumerable.lines(path).toList();
+        List<Integer> actualQuery = IEnumerable.lines(path).where(x -> !x.isEmpty()).select(String::length).toList();
+        int actualEmpty = IEnumerable.lines(empty).count();
+
+        // assert
+        assertEquals(new List<>("alpha", "beta", "", "gamma"), actual);
+        assertEquals(new List<>(5, 4, 5), actualQuery);
+        assertEquals(0, actualEmpty);
+    }
+
+    @Test
+    void linesAcrossRegions() throws IOException {
+        // arrange
+        String text = IEnumerable.range(0, 200).select(x -> "line " + x).toList().stream().collect(Collectors.joining("\n", "", "\n"));
+        Path path = temporaryFile(text);
+        IEnumerable<String> lines = new MappedLines<>(path, StandardCharsets.UTF_8,
+                (buffer, start, end) -> MappedLines.decode(buffer, start, end, StandardCharsets.UTF_8), 64);
+
+        // act
+        List<String> actual = lines.toList();
+        List<String> actualParallel = new List<>(lines.asParallelStream().collect(Collectors.toList()));
+
+        // assert
+        assertEquals(new List<>(Files.readAllLines(path)), actual);
+        assertEquals(actual, actualParallel);
+    }
+
+    @Test
+    void linesParallel() throws IOException {
+        // arrange
+        String text = IEnumerable.range(0, 100000).select(String::valueOf).toList().stream().collect(Collectors.joining("\n"));
+        Path path = temporaryFile(text);
+
+        // act
+        Spliterator<String> spliterator = IEnumerable.lines(path).spliterator();
+        long actualEstimate = spliterator.estimateSize();
+        Spliterator<String> actualPrefix = spliterator.trySplit();
+        long actualSum = IEnumerable.lines(path).asParallelStream().mapToLong(Long::parseLong).sum();
+        List<String> actualOrdered = new List<>(IEnumerable.lines(path).asParallelStream().collect(Collectors.toList()));
+
+        // assert
+        assertEquals(true, 50000 < actualEstimate && actualEstimate < 200000);
+        assertEquals(true, actualPrefix != null);
+        assertEquals(99999L * 100000L / 2, actualSum);
+        assertEquals(IEnumerable.range(0, 100000).select(String::valueOf).toList(), actualOrdered);
+    }
+
+    @Test
+    void records() throws IOException {
+        // arrange
+        Path path = temporaryFile("id,name,price\n1,apple,0.5\n-42,,3\n9223372036854775807,pear,1e3\n");
+
+        // act
+        List<DelimitedRecord> actual = IEnumerable.records(path, ',').skip(1).toList();
+        double actualTotal = IEnumerable.records(path, ',').skip(1).sumDouble(x -> x.getDouble(2));
+
+        // assert
+        assertEquals(3, actual.count());
+        assertEquals(3, actual.get(0).size());
+        assertEquals(1, actual.get(0).getInt(0));
+        assertEquals("apple", actual.get(0).get(1));
+        assertEquals(-42, actual.get(1).getInt(0));
+        assertEquals("", actual.get(1).get(1));
+        assertEquals(Long.MAX_VALUE, actual.get(2).getLong(0));
+        assertEquals("-42,,3", actual.get(1).toString());
+        assertEquals(1003.5, actualTotal);
+    }
+
     @Test
     void range() {
         // act
@@ -543,6 +957,39 @@ class IEnumerableTest {
         assertEquals(0, actual.get(2).intValue());
     }
 
+    @Test
+    void rangeLazy() {
+        // act
+        List<Integer> actual = IEnumerable.range(1, Integer.MAX_VALUE);
+        List<Integer> actualModified = IEnumerable.range(0, 3);
+        actualModified.add(9);
+        actualModified.remove(0);
+
+        // assert
+        assertEquals(Integer.MAX_VALUE, actual.count());
+        assertEquals(1000001, actual.elementAt(1000000).intValue());
+        assertEquals(Integer.MAX_VALUE, actual.skip(Integer.MAX_VALUE - 1).first().intValue());
+        assertEquals(new List<>(3, 4), actual.skip(2).take(2).toList());
+        assertEquals(new List<>(1, 2, 9), actualModified);
+    }
+
+    @Test
+    void generateAndIterate() {
+        // arrange
+        int[] supplied = {0};
+
+        // act
+        List<Integer> actualGenerate = IEnumerable.generate(() -> ++supplied[0]).take(3).toList();
+        List<Integer> actualIterate = IEnumerable.iterate(1, x -> x * 2).takeWhile(x -> x < 100).toList();
+        String actualSeed = IEnumerable.iterate("a", x -> x + "a").elementAt(2);
+
+        // assert
+        assertEquals(new List<>(1, 2, 3), actualGenerate);
+        assertEquals(3, supplied[0]);
+        assertEquals(new List<>(1, 2, 4, 8, 16, 32, 64), actualIterate);
+        assertEquals("aaa", actualSeed);
+    }
+
     @Test
     void repeat() {
         // act
@@ -551,6 +998,7 @@ class IEnumerableTest {
         // assert
         assertEquals(10, actual.count());
         assertEquals("circle", actual.get(9));
+        assertEquals(Integer.MAX_VALUE, IEnumerable.repeat(String.class, "circle", Integer.MAX_VALUE).count());
     }
 
     @Test
@@ -571,6 +1019,23 @@ class IEnumerableTest {
         assertEquals(3, list.get(2).intValue());
     }
 
+    @Test
+    void reverseSnapshotsSource() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3, 4, 5);
+        List<Integer> actual = new List<>();
+
+        // act
+        for (int item : list.reverse()) {
+            actual.add(item);
+            list.remove(Integer.valueOf(item));
+        }
+
+        // assert
+        assertEquals(new List<>(5, 4, 3, 2, 1), actual);
+        assertEquals(0, list.size());
+    }
+
     @Test
     void select() {
         // arrange
@@ -633,6 +1098,58 @@ class IEnumerableTest {
         assertEquals("3.0.2", actual.get(5));
     }
 
+    @Test
+    void selectLazy() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3);
+        int[] projected = {0};
+
+        // act
+        int actual = list.select(x -> {
+            projected[0]++;
+            return x * 10;
+        }).firstOrDefault();
+
+        // assert
+        assertEquals(10, actual);
+        assertEquals(1, projected[0]);
+    }
+
+    @Test
+    void selectOrderByProjectsOnce() {
+        // arrange
+        List<Integer> list = new List<>(5, 3, 1, 4, 2);
+        int[] projected = {0};
+
+        // act
+        List<Integer> actual = list.select(x -> {
+            projected[0]++;
+            return x * 10;
+        }).orderBy(x -> x).toList();
+
+        // assert
+        assertEquals(new List<>(10, 20, 30, 40, 50), actual);
+        assertEquals(5, projected[0]);
+    }
+
+    @Test
+    void selectManyLazy() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3);
+        int[] projected = {0};
+
+        // act
+        List<Integer> actual = list.selectMany(x -> {
+            projected[0]++;
+            return new List<>(x, x);
+        }).take(3).toList();
+
+        // assert
+        assertEquals(3, actual.size());
+        assertEquals(2, actual.get(2).intValue());
+        assertEquals(2, projected[0]);
+    }
+
     @Test
     void sequenceEqual() {
         // arrange
@@ -652,6 +1169,29 @@ class IEnumerableTest {
         assertEquals(false, actualUnMatchCount);
     }
 
+    @Test
+    void sequenceEqualComparer() {
+        // arrange
+        List<String> first = new List<>("Backbone", null, "React");
+        IEnumerable<String> secondMatch = new List<>("BACKBONE", null, "REACT").where(x -> true);
+        IEnumerable<String> secondShort = new List<>("BACKBONE", null).where(x -> true);
+        IEnumerable<String> secondLong = IEnumerable.generate(() -> "React");
+
+        // act
+        boolean actualMatch = first.sequenceEqual(secondMatch, (x, y) -> x == null ? y == null : x.equalsIgnoreCase(y));
+        boolean actualDefault = first.sequenceEqual(new List<>("Backbone", null, "React"));
+        boolean actualShort = first.sequenceEqual(secondShort, (x, y) -> true);
+        boolean actualLong = first.sequenceEqual(secondLong, (x, y) -> true);
+        boolean actualInfinite = IEnumerable.generate(() -> 1).sequenceEqual(new List<>(1, 2));
+
+        // assert
+        assertEquals(true, actualMatch);
+        assertEquals(true, actualDefault);
+        assertEquals(false, actualShort);
+        assertEquals(false, actualLong);
+        assertEquals(false, actualInfinite);
+    }
+
     @Test
     void single() {
         // arrange
@@ -687,6 +1227,36 @@ class IEnumerableTest {
         assertEquals(null, actualUnMatch);
     }
 
+    @Test
+    void sizeAware() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3, 4, 5);
+        int[] projected = {0};
+        IEnumerable<Integer> selected = list.select(x -> {
+            projected[0]++;
+            return x * 10;
+        });
+
+        // act
+        int actualCount = selected.count();
+        long actualLongCount = selected.skip(1).take(3).longCount();
+        int actualElementAt = selected.skip(1).take(3).elementAt(2);
+        int actualLast = selected.take(2).last();
+        List<Integer> actualReverse = selected.reverse().toList();
+        Integer[] actualArray = list.skip(3).toArray(Integer.class);
+
+        // assert
+        assertEquals(5, actualCount);
+        assertEquals(3, actualLongCount);
+        assertEquals(40, actualElementAt);
+        assertEquals(20, actualLast);
+        assertEquals(50, actualReverse.get(0).intValue());
+        assertEquals(10, actualReverse.get(4).intValue());
+        assertEquals(12, projected[0]);
+        assertEquals(2, actualArray.length);
+        assertEquals(4, actualArray[0].intValue());
+    }
+
     @Test
     void skip() {
         // arrange
@@ -701,6 +1271,29 @@ class IEnumerableTest {
         assertEquals(0, actualOver.count());
     }
 
+    @Test
+    void skipTake() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3, 4, 5);
+        IEnumerable<Integer> lazy = list.where(x -> true);
+
+        // act
+        List<Integer> actualPage = list.skip(1).take(2).toList();
+        List<Integer> actualTakeSkip = list.take(4).skip(3).toList();
+        List<Integer> actualLazyPage = lazy.skip(3).take(5).toList();
+        List<Integer> actualNegative = list.skip(-1).take(-1).toList();
+
+        // assert
+        assertEquals(2, actualPage.size());
+        assertEquals(2, actualPage.get(0).intValue());
+        assertEquals(3, actualPage.get(1).intValue());
+        assertEquals(1, actualTakeSkip.size());
+        assertEquals(4, actualTakeSkip.get(0).intValue());
+        assertEquals(2, actualLazyPage.size());
+        assertEquals(4, actualLazyPage.get(0).intValue());
+        assertEquals(0, actualNegative.size());
+    }
+
     @Test
     void skipWhile() {
         // arrange
@@ -741,6 +1334,66 @@ class IEnumerableTest {
         assertEquals(new BigDecimal(6.6).doubleValue(), actualBigDecimal.doubleValue());
     }
 
+    @Test
+    void stats() {
+        // arrange
+        List<Integer> list = new List<>(2, 4, 4, 4, 5, 5, 7, 9);
+
+        // act
+        DoubleStatistics actual = list.stats(x -> x + 1e9);
+        LongStatistics actualLong = list.statsLong(x -> (long) x);
+        BigDecimalStatistics actualBigDecimal = list.statsBigDecimal(x -> new BigDecimal(x).movePointLeft(1));
+        DoubleStatistics actualEmpty = new List<Integer>().stats(x -> x);
+
+        // assert
+        assertEquals(8, actual.getCount());
+        assertEquals(8e9 + 40, actual.getSum());
+        assertEquals(1e9 + 2, actual.getMin());
+        assertEquals(1e9 + 9, actual.getMax());
+        assertEquals(1e9 + 5, actual.getMean());
+        assertEquals(4d, actual.getVariance(), 1e-6);
+        assertEquals(2d, actual.getStandardDeviation(), 1e-6);
+        assertEquals(40L, actualLong.getSum());
+        assertEquals(2L, actualLong.getMin());
+        assertEquals(9L, actualLong.getMax());
+        assertEquals(5d, actualLong.getMean());
+        assertEquals(4d, actualLong.getVariance());
+        assertEquals(new BigDecimal("4.0"), actualBigDecimal.getSum());
+        assertEquals(new BigDecimal("0.2"), actualBigDecimal.getMin());
+        assertEquals(new BigDecimal("0.9"), actualBigDecimal.getMax());
+        assertEquals(0, new BigDecimal("0.5").compareTo(actualBigDecimal.getMean()));
+        assertEquals(0, new BigDecimal("0.04").compareTo(actualBigDecimal.getVariance()));
+        assertEquals(0, actualEmpty.getCount());
+        assertEquals(0d, actualEmpty.getSum());
+    }
+
+    @Test
+    void sumPrimitiveSelectors() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React");
+        IntSelector<String> intSelector = String::length;
+        LongSelector<String> longSelector = x -> x.length() * 10L;
+        DoubleSelector<String> doubleSelector = x -> x.length() / 2d;
+
+        // act
+        int actualInt = list.sumInt(intSelector);
+        long actualLong = list.sumLong(longSelector);
+        double actualDouble = list.sumDouble(doubleSelector);
+        double actualAverageInt = list.averageInt(intSelector);
+        double actualAverageLong = list.averageLong(longSelector);
+        double actualAverageDouble = list.averageDouble(doubleSelector);
+
+        // assert
+        assertEquals(20, actualInt);
+        assertEquals(200L, actualLong);
+        assertEquals(10d, actualDouble);
+        assertEquals(20 / 3d, actualAverageInt);
+        assertEquals(200 / 3d, actualAverageLong);
+        assertEquals(10 / 3d, actualAverageDouble);
+        assertEquals(actualInt, list.sumInt(x -> x.length()));
+        assertEquals(actualInt, list.sumInt((Function<String, Integer>) String::length));
+    }
+
     @Test
     void take() {
         // arrange
@@ -773,6 +1426,33 @@ class IEnumerableTest {
         assertEquals("Angular", actual.get(1));
     }
 
+    @Test
+    void takeWhileLazy() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3, 4, 5);
+        int[] pulled = {0};
+        IEnumerable<Integer> source = list.where(x -> ++pulled[0] > 0);
+
+        // act
+        List<Integer> actualTake = source.take(2).toList();
+        int pulledTake = pulled[0];
+        pulled[0] = 0;
+        List<Integer> actualTakeWhile = source.takeWhile(x -> x < 3).toList();
+        int pulledTakeWhile = pulled[0];
+        pulled[0] = 0;
+        List<Integer> actualSkipWhile = source.skipWhile(x -> x < 3).toList();
+        int pulledSkipWhile = pulled[0];
+
+        // assert
+        assertEquals(2, actualTake.size());
+        assertEquals(2, pulledTake);
+        assertEquals(2, actualTakeWhile.size());
+        assertEquals(3, pulledTakeWhile);
+        assertEquals(3, actualSkipWhile.size());
+        assertEquals(3, actualSkipWhile.get(0).intValue());
+        assertEquals(5, pulledSkipWhile);
+    }
+
     @Test
     void thenBy() {
         // arrange
@@ -903,6 +1583,49 @@ class IEnumerableTest {
         assertEquals(1, actual.get("React").intValue());
     }
 
+    @Test
+    void toLookup() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React", "Aurelia", "Riot");
+
+        // act
+        Lookup<Character, String> actual = list.toLookup(x -> x.charAt(0));
+        Lookup<Character, Integer> actualSelect = list.toLookup(x -> x.charAt(0), String::length);
+
+        // assert
+        assertEquals(3, actual.count());
+        assertEquals(true, actual.contains('A'));
+        assertEquals(false, actual.contains('E'));
+        assertEquals(0, actual.get('E').count());
+        assertEquals("Angular", actual.get('A').first());
+        assertEquals("Aurelia", actual.get('A').last());
+        assertEquals('B', actual.first().getKey().charValue());
+        assertEquals('A', actual.elementAt(1).getKey().charValue());
+        assertEquals(7, actualSelect.get('A').elementAt(1).intValue());
+        assertEquals(9, actualSelect.get('R').sumInt(x -> x));
+    }
+
+    @Test
+    void groupJoinKeysComputedOnce() {
+        // arrange
+        List<Integer> outer = new List<>(1, 2, 3);
+        List<Integer> inner = new List<>(2, 3, 3, 4);
+        int[] innerKeys = {0};
+
+        // act
+        List<Integer> actual = outer.groupJoin(inner, x -> x, y -> {
+            innerKeys[0]++;
+            return y;
+        }, (x, ys) -> ys.count()).toList();
+
+        // assert
+        assertEquals(3, actual.size());
+        assertEquals(0, actual.get(0).intValue());
+        assertEquals(1, actual.get(1).intValue());
+        assertEquals(2, actual.get(2).intValue());
+        assertEquals(4, innerKeys[0]);
+    }
+
     @Test
     void union() {
         // arrange
@@ -949,6 +1672,24 @@ class IEnumerableTest {
         assertEquals(false, actual.contains("angular"));
     }
 
+    @Test
+    void where_indexPrimitive() {
+        // arrange
+        List<Integer> list = IEnumerable.range(10, 10);
+        IndexedPredicate<Integer> predicate = (x, index) -> index % 3 == 0;
+
+        // act
+        List<Integer> actual = list.where(predicate).toList();
+        List<Integer> actualBoxed = list.where((BiPredicate<Integer, Integer>) predicate).toList();
+        IEnumerable<Integer> actualLazy = list.where((x, index) -> index > 7).take(1);
+
+        // assert
+        assertEquals(new List<>(10, 13, 16, 19), actual);
+        assertEquals(actual, actualBoxed);
+        assertEquals(new List<>(18), actualLazy.toList());
+        assertEquals(actualLazy.toList(), actualLazy.toList());
+    }
+
     @Test
     void zip() {
         // arrange
@@ -963,4 +1704,10 @@ class IEnumerableTest {
         assertEquals("2 React", actual.get(1));
         assertEquals("3 Backbone", actual.get(2));
     }
-}
\ No newline at end of file
+
+    private static Path temporaryFile(String text) throws IOException {
+        Path path = Files.createTempFile("jlinqer", ".txt");
+        path.toFile().deleteOnExit();
+        return Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
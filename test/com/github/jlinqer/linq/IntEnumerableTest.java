@@ -0,0 +1,90 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntEnumerableTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void aggregates() {
+        // arrange
+        IntEnumerable source = IntEnumerable.of(4, -2, 7, 4, 0);
+
+        // act and assert
+        assertEquals(13, source.sum());
+        assertEquals(2.6d, source.average());
+        assertEquals(7, source.max());
+        assertEquals(-2, source.min());
+        assertEquals(5, source.count());
+        assertThrows(ArithmeticException.class,
+                () -> IntEnumerable.of(Integer.MAX_VALUE, 1).sum());
+        assertThrows(UnsupportedOperationException.class,
+                () -> IntEnumerable.of().average());
+        assertThrows(UnsupportedOperationException.class,
+                () -> IntEnumerable.of().max());
+    }
+
+    @Test
+    void operators() {
+        // arrange
+        IntEnumerable source = IntEnumerable.of(4, -2, 7, 4, 0, 7);
+
+        // act
+        int[] actualWhere = source.where(x -> x > 0).select(x -> x * 10).toArray();
+        int[] actualDistinct = source.distinct().toArray();
+        int[] actualOrderBy = source.orderBy().toArray();
+        int[] actualOrderByDescending = source.orderByDescending().toArray();
+        long[] actualLong = source.selectLong(x -> x * 10000000000L).toArray();
+        double[] actualDouble = source.selectDouble(x -> x / 2d).toArray();
+        List<Integer> actualBoxed = source.boxed().toList();
+
+        // assert
+        assertArrayEquals(new int[]{40, 70, 40, 70}, actualWhere);
+        assertArrayEquals(new int[]{4, -2, 7, 0}, actualDistinct);
+        assertArrayEquals(new int[]{-2, 0, 4, 4, 7, 7}, actualOrderBy);
+        assertArrayEquals(new int[]{7, 7, 4, 4, 0, -2}, actualOrderByDescending);
+        assertArrayEquals(new long[]{40000000000L, -20000000000L, 70000000000L, 40000000000L, 0, 70000000000L}, actualLong);
+        assertArrayEquals(new double[]{2, -1, 3.5, 2, 0, 3.5}, actualDouble);
+        assertEquals(new List<>(4, -2, 7, 4, 0, 7), actualBoxed);
+    }
+
+    @Test
+    void selectInt() {
+        // arrange
+        List<String> list = new List<>("Backbone", "Angular", "React");
+        int[] selected = {0};
+
+        // act
+        IntEnumerable actual = list.selectInt(x -> {
+            selected[0]++;
+            return x.length();
+        });
+        int selectedBeforeEnumeration = selected[0];
+
+        // assert
+        assertEquals(0, selectedBeforeEnumeration);
+        assertArrayEquals(new int[]{8, 7, 5}, actual.toArray());
+        assertEquals(20, list.selectInt(String::length).sum());
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        IntEnumerable source = IntEnumerable.of(1, 2, 3);
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> source.where(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> source.select(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new List<String>().selectInt(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntEnumerable.of((int[]) null));
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongEnumerableTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void aggregates() {
+        // arrange
+        LongEnumerable source = LongEnumerable.of(4000000000L, -2, 7, 0);
+
+        // act and assert
+        assertEquals(4000000005L, source.sum());
+        assertEquals(1000000001.25d, source.average());
+        assertEquals(4000000000L, source.max());
+        assertEquals(-2, source.min());
+        assertEquals(4, source.count());
+        assertThrows(ArithmeticException.class,
+                () -> LongEnumerable.of(Long.MAX_VALUE, 1).sum());
+        assertThrows(UnsupportedOperationException.class,
+                () -> LongEnumerable.of().min());
+    }
+
+    @Test
+    void operators() {
+        // arrange
+        LongEnumerable source = new List<>("Backbone", "Angular", "React", "Angular").selectLong(x -> x.length() * 1000000000L);
+
+        // act
+        long[] actualWhere = source.where(x -> x > 6000000000L).toArray();
+        long[] actualDistinct = source.distinct().toArray();
+        long[] actualOrderByDescending = source.orderByDescending().select(x -> x / 1000000000L).toArray();
+        int[] actualInt = source.selectInt(x -> (int) (x / 1000000000L)).orderBy().toArray();
+        List<Long> actualBoxed = source.boxed().take(1).toList();
+
+        // assert
+        assertArrayEquals(new long[]{8000000000L, 7000000000L, 7000000000L}, actualWhere);
+        assertArrayEquals(new long[]{8000000000L, 7000000000L, 5000000000L}, actualDistinct);
+        assertArrayEquals(new long[]{8, 7, 7, 5}, actualOrderByDescending);
+        assertArrayEquals(new int[]{5, 7, 7, 8}, actualInt);
+        assertEquals(new List<>(8000000000L), actualBoxed);
+    }
+}
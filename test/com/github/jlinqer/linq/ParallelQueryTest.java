@@ -0,0 +1,140 @@
+package com.github.jlinqer.linq;
+
+import com.github.jlinqer.collections.List;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks parallel query results against the sequential operators.
+ */
+class ParallelQueryTest {
+// -------------------------- OTHER METHODS --------------------------
+
+    @Test
+    void aggregates() {
+        // arrange
+        List<Integer> list = IEnumerable.range(0, 100000);
+        ParallelQuery<Integer> query = list.asParallel().where(x -> x % 3 == 0);
+
+        // act
+        int actualCount = query.count();
+        long actualSumLong = query.sumLong(x -> (long) x);
+        int actualSumInt = query.select(x -> x % 10).sumInt(x -> x);
+        double actualSumDouble = query.sumDouble(x -> x / 2d);
+        BigDecimal actualSumBigDecimal = query.sumBigDecimal(x -> new BigDecimal(x));
+        double actualAverage = query.averageLong(x -> (long) x);
+        int actualMax = query.max(x -> x % 1000);
+        int actualMin = query.min(x -> -x);
+        long actualAggregate = query.aggregate(0L, (sum, x) -> sum + x, Long::sum);
+
+        // assert
+        IEnumerable<Integer> expected = list.where(x -> x % 3 == 0);
+        assertEquals(expected.count(), actualCount);
+        assertEquals(expected.sumLong(x -> (long) x), actualSumLong);
+        assertEquals(expected.select(x -> x % 10).sumInt(x -> x), actualSumInt);
+        assertEquals(expected.sumDouble(x -> x / 2d), actualSumDouble, 1e-3);
+        assertEquals(expected.sumBigDecimal(x -> new BigDecimal(x)), actualSumBigDecimal);
+        assertEquals(expected.averageLong(x -> (long) x), actualAverage, 1e-9);
+        assertEquals(999, actualMax);
+        assertEquals(99999, actualMin);
+        assertEquals(actualSumLong, actualAggregate);
+    }
+
+    @Test
+    void asOrdered() {
+        // arrange
+        List<Integer> list = IEnumerable.range(0, 10000);
+
+        // act
+        List<Integer> actual = list.asParallel().asOrdered()
+                .selectMany(x -> new List<>(x, -x))
+                .where(x -> x % 2 == 0)
+                .toList();
+        List<Integer> actualUnordered = list.asParallel().select(x -> x * 2).toList();
+
+        // assert
+        assertEquals(list.selectMany(x -> new List<>(x, -x)).where(x -> x % 2 == 0).toList(), actual);
+        assertEquals(10000, actualUnordered.size());
+        assertEquals(list.sumLong(x -> 2L * x), actualUnordered.sumLong(x -> (long) x));
+    }
+
+    @Test
+    void asSequential() {
+        // arrange
+        List<Integer> list = new List<>(1, 2, 3, 4, 5);
+        int[] selected = {0};
+
+        // act
+        IEnumerable<Integer> actual = list.asParallel().select(x -> {
+            selected[0]++;
+            return x * 10;
+        }).asSequential();
+        int actualFirst = actual.first();
+
+        // assert
+        assertEquals(10, actualFirst);
+        assertEquals(1, selected[0]);
+        assertEquals(new List<>(10, 20, 30, 40, 50), actual.toList());
+    }
+
+    @Test
+    void forAll() {
+        // arrange
+        List<Integer> list = IEnumerable.range(1, 1000);
+        AtomicLong sum = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        // act
+        list.asParallel().withPool(pool).withDegreeOfParallelism(2).forAll(sum::addAndGet);
+        pool.shutdown();
+
+        // assert
+        assertEquals(500500, sum.get());
+    }
+
+    @Test
+    void empty() {
+        // arrange
+        ParallelQuery<Integer> query = new List<Integer>().asParallel();
+
+        // act and assert
+        assertEquals(0, query.count());
+        assertEquals(0, query.sumInt(x -> x));
+        assertTrue(query.toList().isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> query.averageInt(x -> x));
+        assertThrows(UnsupportedOperationException.class,
+                () -> query.max(x -> x));
+    }
+
+    @Test
+    void abnormal() {
+        // arrange
+        ParallelQuery<Integer> query = new List<>(1, 2, 3).asParallel();
+        Predicate<Integer> predicate = null;
+
+        // act and assert
+        assertThrows(IllegalArgumentException.class,
+                () -> query.where(predicate));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.select(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.forAll(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.aggregate(0, null, Integer::sum));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.withPool(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.withDegreeOfParallelism(0));
+        assertThrows(ArithmeticException.class,
+                () -> query.sumInt(x -> Integer.MAX_VALUE));
+    }
+}